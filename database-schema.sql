@@ -35,8 +35,12 @@ CREATE TABLE IF NOT EXISTS users (
     first_name VARCHAR(255),
     last_name VARCHAR(255),
     role VARCHAR(50) NOT NULL DEFAULT 'USER',
+    token_version INTEGER NOT NULL DEFAULT 0,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    search_name TEXT GENERATED ALWAYS AS (
+        lower(coalesce(first_name, '') || ' ' || coalesce(last_name, '') || ' ' || username)
+    ) STORED
 );
 
 -- Events table
@@ -50,12 +54,17 @@ CREATE TABLE IF NOT EXISTS events (
     end_time TIMESTAMP,
     price DECIMAL(10, 2),
     capacity INTEGER,
+    registered_count INTEGER NOT NULL DEFAULT 0,
     status VARCHAR(50) NOT NULL DEFAULT 'ACTIVE',
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     category_id INTEGER,
     organizer_id UUID,
     version BIGINT DEFAULT 0,
+    search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    ) STORED,
     CONSTRAINT fk_event_category FOREIGN KEY (category_id) REFERENCES categories(id),
     CONSTRAINT fk_event_organizer FOREIGN KEY (organizer_id) REFERENCES users(id)
 );
@@ -97,6 +106,60 @@ CREATE TABLE IF NOT EXISTS notifications (
     CONSTRAINT fk_notification_event FOREIGN KEY (event_id) REFERENCES events(id)
 );
 
+-- Outbox for registration side effects (notifications + emails)
+CREATE TABLE IF NOT EXISTS outbox_messages (
+    id UUID DEFAULT gen_random_uuid() PRIMARY KEY,
+    type VARCHAR(50) NOT NULL,
+    registration_id UUID NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP,
+    last_error TEXT
+);
+
+-- Event-wide mailings, delivered in pages with a resumable registration cursor
+CREATE TABLE IF NOT EXISTS event_mailings (
+    id UUID DEFAULT gen_random_uuid() PRIMARY KEY,
+    event_id UUID NOT NULL,
+    created_by UUID,
+    subject VARCHAR(255) NOT NULL,
+    message TEXT NOT NULL,
+    status VARCHAR(50) NOT NULL DEFAULT 'PENDING',
+    total_recipients INTEGER NOT NULL DEFAULT 0,
+    sent_count INTEGER NOT NULL DEFAULT 0,
+    request_count INTEGER NOT NULL DEFAULT 0,
+    last_registration_id UUID,
+    last_error TEXT,
+    claimed_by VARCHAR(64),
+    lease_until TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP,
+    CONSTRAINT fk_event_mailing_event FOREIGN KEY (event_id) REFERENCES events(id),
+    CONSTRAINT fk_event_mailing_created_by FOREIGN KEY (created_by) REFERENCES users(id)
+);
+
+-- Bulk ticket issuance runs, issued in batches with a resumable registration cursor
+CREATE TABLE IF NOT EXISTS ticket_issuances (
+    id UUID DEFAULT gen_random_uuid() PRIMARY KEY,
+    event_id UUID NOT NULL,
+    created_by UUID,
+    status VARCHAR(50) NOT NULL DEFAULT 'PENDING',
+    total_registrations INTEGER NOT NULL DEFAULT 0,
+    issued_count INTEGER NOT NULL DEFAULT 0,
+    batch_count INTEGER NOT NULL DEFAULT 0,
+    last_registration_id UUID,
+    last_error TEXT,
+    claimed_by VARCHAR(64),
+    lease_until TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP,
+    CONSTRAINT fk_ticket_issuance_event FOREIGN KEY (event_id) REFERENCES events(id),
+    CONSTRAINT fk_ticket_issuance_created_by FOREIGN KEY (created_by) REFERENCES users(id)
+);
+
 -- ===============================
 -- CREATE INDEXES FOR PERFORMANCE
 -- ===============================
@@ -110,11 +173,15 @@ CREATE INDEX IF NOT EXISTS idx_events_status ON events(status);
 CREATE INDEX IF NOT EXISTS idx_events_event_date ON events(event_date);
 CREATE INDEX IF NOT EXISTS idx_events_category_id ON events(category_id);
 CREATE INDEX IF NOT EXISTS idx_events_organizer_id ON events(organizer_id);
+CREATE INDEX IF NOT EXISTS idx_events_created_at_id ON events(created_at, id);
 
 -- Indexes for registrations
 CREATE INDEX IF NOT EXISTS idx_registrations_event_id ON registrations(event_id);
 CREATE INDEX IF NOT EXISTS idx_registrations_user_id ON registrations(user_id);
 CREATE INDEX IF NOT EXISTS idx_registrations_status ON registrations(status);
+CREATE INDEX IF NOT EXISTS idx_registrations_event_created_at ON registrations(event_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_registrations_user_created_at ON registrations(user_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_registrations_user_event_status ON registrations(user_id, event_id, status);
 
 -- Indexes for notifications
 CREATE INDEX IF NOT EXISTS idx_notifications_user_id ON notifications(user_id);
@@ -123,9 +190,65 @@ CREATE INDEX IF NOT EXISTS idx_notifications_is_read ON notifications(is_read);
 CREATE INDEX IF NOT EXISTS idx_notifications_user_is_read ON notifications(user_id, is_read);
 
 -- Indexes for tickets
-CREATE INDEX IF NOT EXISTS idx_tickets_registration_id ON tickets(registration_id);
+-- One ticket per registration; bulk issuance inserts with ON CONFLICT (registration_id) DO NOTHING
+CREATE UNIQUE INDEX IF NOT EXISTS idx_tickets_registration_id_unique ON tickets(registration_id);
 CREATE INDEX IF NOT EXISTS idx_tickets_ticket_number ON tickets(ticket_number);
 
+-- Indexes for outbox messages
+CREATE INDEX IF NOT EXISTS idx_outbox_messages_pending ON outbox_messages(processed_at, created_at);
+
+-- Indexes for event mailings
+CREATE INDEX IF NOT EXISTS idx_event_mailings_status ON event_mailings(status, created_at);
+CREATE INDEX IF NOT EXISTS idx_event_mailings_event_id ON event_mailings(event_id);
+
+-- Indexes for ticket issuances
+CREATE INDEX IF NOT EXISTS idx_ticket_issuances_status ON ticket_issuances(status, created_at);
+CREATE INDEX IF NOT EXISTS idx_ticket_issuances_event_id ON ticket_issuances(event_id);
+
+-- ===============================
+-- SCHEMA UPGRADES (for databases created before these columns existed)
+-- ===============================
+
+-- Maintained seat counter on events (active registrations only)
+ALTER TABLE events ADD COLUMN IF NOT EXISTS registered_count INTEGER NOT NULL DEFAULT 0;
+UPDATE events e SET registered_count = (
+    SELECT COUNT(*) FROM registrations r
+    WHERE r.event_id = e.id AND r.status <> 'CANCELLED'
+);
+
+-- Registration outbox retries: a message stays pending until its email is accepted
+ALTER TABLE outbox_messages ADD COLUMN IF NOT EXISTS attempts INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE outbox_messages ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP;
+ALTER TABLE outbox_messages ADD COLUMN IF NOT EXISTS last_error TEXT;
+
+-- Event mailing leases: one processor delivers a mailing at a time
+ALTER TABLE event_mailings ADD COLUMN IF NOT EXISTS claimed_by VARCHAR(64);
+ALTER TABLE event_mailings ADD COLUMN IF NOT EXISTS lease_until TIMESTAMP;
+
+-- Ticket issuance leases: one processor issues a run at a time
+ALTER TABLE ticket_issuances ADD COLUMN IF NOT EXISTS claimed_by VARCHAR(64);
+ALTER TABLE ticket_issuances ADD COLUMN IF NOT EXISTS lease_until TIMESTAMP;
+
+-- JWT revocation counter on users
+ALTER TABLE users ADD COLUMN IF NOT EXISTS token_version INTEGER NOT NULL DEFAULT 0;
+
+-- Full-text search over event title (weight A) and description (weight B)
+ALTER TABLE events ADD COLUMN IF NOT EXISTS search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'B')
+) STORED;
+CREATE INDEX IF NOT EXISTS idx_events_search_vector ON events USING GIN (search_vector);
+
+-- Trigram search over "first last username" for the admin user listing
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS search_name TEXT GENERATED ALWAYS AS (
+    lower(coalesce(first_name, '') || ' ' || coalesce(last_name, '') || ' ' || username)
+) STORED;
+CREATE INDEX IF NOT EXISTS idx_users_search_name_trgm ON users USING GIN (search_name gin_trgm_ops);
+
+-- Ticket numbers: hi values for TicketNumberAllocator, each one reserves a block of 1000 numbers
+CREATE SEQUENCE IF NOT EXISTS ticket_number_seq START WITH 100 INCREMENT BY 1;
+
 -- ===============================
 -- SAMPLE DATA (Optional - for testing)
 -- ===============================
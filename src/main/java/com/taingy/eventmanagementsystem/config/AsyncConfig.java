@@ -1,9 +1,81 @@
 package com.taingy.eventmanagementsystem.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dedicated executor for {@code @Async} work (email sends). The queue is bounded and a full
+ * queue makes the caller run the task itself, which slows producers down instead of dropping
+ * mail or growing memory without limit. Queued tasks are drained on shutdown.
+ */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
+
+    static final String METRIC_PREFIX = "app.async.executor";
+
+    /**
+     * Named {@code taskExecutor} so {@code @Async} picks it up even though the scheduler
+     * registered by {@link SchedulingConfig} is also a TaskExecutor.
+     */
+    @Bean(name = "taskExecutor")
+    public ThreadPoolTaskExecutor taskExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${app.async.core-pool-size:4}") int corePoolSize,
+            @Value("${app.async.max-pool-size:16}") int maxPoolSize,
+            @Value("${app.async.queue-capacity:500}") int queueCapacity,
+            @Value("${app.async.await-termination-seconds:30}") int awaitTerminationSeconds) {
+        Timer queueWait = Timer.builder(METRIC_PREFIX + ".queue.wait")
+                .description("Time async tasks spend queued before a thread picks them up")
+                .register(meterRegistry);
+        Timer execution = Timer.builder(METRIC_PREFIX + ".execution")
+                .description("Time async tasks spend running")
+                .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("async-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(awaitTerminationSeconds);
+        executor.setTaskDecorator(task -> {
+            long submittedAt = System.nanoTime();
+            return () -> {
+                long startedAt = System.nanoTime();
+                queueWait.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    task.run();
+                } finally {
+                    execution.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            };
+        });
+        // Spring initializes the pool after this method returns (and would replace one created here),
+        // so the gauges read the executor rather than capture its ThreadPoolExecutor
+        Gauge.builder(METRIC_PREFIX + ".queue.size", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("Async tasks waiting in the queue")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.remaining", executor, e -> e.getQueueCapacity() - e.getQueueSize())
+                .description("Free slots left in the async queue")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Threads currently running async tasks")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .description("Threads currently in the async pool")
+                .register(meterRegistry);
+
+        return executor;
+    }
 }
@@ -0,0 +1,116 @@
+package com.taingy.eventmanagementsystem.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks for PostgreSQL-only schema objects (generated search columns and their indexes, unique
+ * indexes used as conflict targets) that services use for native SQL paths. Tests run on H2 and older databases may not have been
+ * upgraded yet, so callers fall back to portable JPQL when a check fails.
+ */
+@Component
+public class DatabaseFeatures {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseFeatures.class);
+
+    private final DataSource dataSource;
+
+    public DatabaseFeatures(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /** Whether the database is PostgreSQL. */
+    public boolean isPostgres() {
+        try (Connection connection = dataSource.getConnection()) {
+            return "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException e) {
+            logger.warn("Could not inspect the database product", e);
+            return false;
+        }
+    }
+
+    /** Whether the database is PostgreSQL and {@code table} has {@code column}. */
+    public boolean hasPostgresColumn(String table, String column) {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            if (!"PostgreSQL".equals(metaData.getDatabaseProductName())) {
+                return false;
+            }
+            try (ResultSet columns = metaData.getColumns(null, null, table, column)) {
+                if (columns.next()) {
+                    return true;
+                }
+            }
+            logger.warn("{}.{} is missing, run the schema upgrades in database-schema.sql", table, column);
+            return false;
+        } catch (SQLException e) {
+            logger.warn("Could not inspect {}.{}", table, column, e);
+            return false;
+        }
+    }
+
+    /** Whether the database is PostgreSQL and {@code table} has a unique index on {@code column} alone. */
+    public boolean hasPostgresUniqueIndex(String table, String column) {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            if (!"PostgreSQL".equals(metaData.getDatabaseProductName())) {
+                return false;
+            }
+            Map<String, List<String>> uniqueIndexes = new HashMap<>();
+            try (ResultSet indexes = metaData.getIndexInfo(null, null, table, true, false)) {
+                while (indexes.next()) {
+                    String indexName = indexes.getString("INDEX_NAME");
+                    if (indexName != null) {
+                        uniqueIndexes.computeIfAbsent(indexName, name -> new ArrayList<>())
+                                .add(indexes.getString("COLUMN_NAME"));
+                    }
+                }
+            }
+            if (uniqueIndexes.containsValue(List.of(column))) {
+                return true;
+            }
+            logger.warn("Unique index on {}.{} is missing, run the schema upgrades in database-schema.sql",
+                    table, column);
+            return false;
+        } catch (SQLException e) {
+            logger.warn("Could not inspect indexes of {}", table, e);
+            return false;
+        }
+    }
+
+    /** Whether the database is PostgreSQL and {@code extension} is installed. */
+    public boolean hasPostgresExtension(String extension) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                return false;
+            }
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT 1 FROM pg_extension WHERE extname = ?")) {
+                statement.setString(1, extension);
+                try (ResultSet result = statement.executeQuery()) {
+                    if (result.next()) {
+                        return true;
+                    }
+                }
+            }
+            logger.warn("PostgreSQL extension {} is not installed, run the schema upgrades in database-schema.sql",
+                    extension);
+            return false;
+        } catch (SQLException e) {
+            logger.warn("Could not inspect PostgreSQL extension {}", extension, e);
+            return false;
+        }
+    }
+}
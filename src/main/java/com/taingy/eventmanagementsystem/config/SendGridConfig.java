@@ -0,0 +1,56 @@
+package com.taingy.eventmanagementsystem.config;
+
+import com.sendgrid.Client;
+import com.sendgrid.SendGrid;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared SendGrid client backed by a pooled keep-alive HTTP connection manager,
+ * so email sends reuse connections instead of opening a new client (and TLS session) per message.
+ */
+@Configuration
+public class SendGridConfig {
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient sendGridHttpClient(
+            @Value("${sendgrid.http.max-connections:20}") int maxConnections,
+            @Value("${sendgrid.http.connect-timeout-ms:5000}") int connectTimeoutMs,
+            @Value("${sendgrid.http.socket-timeout-ms:10000}") int socketTimeoutMs) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(60, TimeUnit.SECONDS);
+        connectionManager.setMaxTotal(maxConnections);
+        // All traffic goes to a single host, so the per-route limit is the real limit
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        connectionManager.setValidateAfterInactivity(2000);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeoutMs)
+                .setConnectionRequestTimeout(connectTimeoutMs)
+                .setSocketTimeout(socketTimeoutMs)
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictIdleConnections(30, TimeUnit.SECONDS)
+                .build();
+    }
+
+    @Bean
+    public SendGrid sendGrid(CloseableHttpClient sendGridHttpClient,
+                             @Value("${sendgrid.api.key}") String apiKey,
+                             @Value("${sendgrid.api.host:api.sendgrid.com}") String host) {
+        // A plain "http://" host is only used to point the client at a local stub server
+        boolean plainHttp = host.startsWith("http://");
+        SendGrid sendGrid = new SendGrid(apiKey, new Client(sendGridHttpClient, plainHttp));
+        sendGrid.setHost(plainHttp ? host.substring("http://".length()) : host);
+        return sendGrid;
+    }
+}
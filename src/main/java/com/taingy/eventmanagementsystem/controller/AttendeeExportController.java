@@ -0,0 +1,62 @@
+package com.taingy.eventmanagementsystem.controller;
+
+import com.taingy.eventmanagementsystem.enums.ExportFormat;
+import com.taingy.eventmanagementsystem.exception.BadRequestException;
+import com.taingy.eventmanagementsystem.service.AttendeeExportService;
+import com.taingy.eventmanagementsystem.service.AuthService;
+import com.taingy.eventmanagementsystem.util.AuthUtil;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/events/{eventId}/attendees")
+@CrossOrigin(origins = "*")
+public class AttendeeExportController {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final MediaType APPLICATION_NDJSON = new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+
+    private final AttendeeExportService attendeeExportService;
+    private final AuthService authService;
+
+    public AttendeeExportController(AttendeeExportService attendeeExportService, AuthService authService) {
+        this.attendeeExportService = attendeeExportService;
+        this.authService = authService;
+    }
+
+    /**
+     * Downloads every registration of the event as CSV or newline-delimited JSON. Rows are written
+     * to the response as they are read, so large events do not have to fit in memory.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAttendees(@PathVariable UUID eventId,
+                                                                 @RequestParam(defaultValue = "csv") String format) {
+        AuthUtil.requireAdmin(authService, "Only administrators can export attendees");
+        ExportFormat exportFormat = parseFormat(format);
+        attendeeExportService.requireEvent(eventId);
+
+        String filename = "attendees-" + eventId + "." + exportFormat.name().toLowerCase(Locale.ROOT);
+        attendeeExportService.reserveExport();
+        StreamingResponseBody body = out -> attendeeExportService.writeAttendees(eventId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(exportFormat == ExportFormat.CSV ? TEXT_CSV : APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    private static ExportFormat parseFormat(String format) {
+        try {
+            return ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported export format: " + format);
+        }
+    }
+}
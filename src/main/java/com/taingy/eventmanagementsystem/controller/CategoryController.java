@@ -13,15 +13,12 @@ import com.taingy.eventmanagementsystem.model.User;
 import com.taingy.eventmanagementsystem.service.AuthService;
 import com.taingy.eventmanagementsystem.service.CategoryService;
 import com.taingy.eventmanagementsystem.util.AuthUtil;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-
 @RestController
 @RequestMapping("/api/categories")
 @CrossOrigin(origins = "*")
@@ -62,15 +59,18 @@ public class CategoryController {
         return ResponseEntity.status(HttpStatus.CREATED).body(categoryMapper.toResponseDTO(savedCategory));
     }
 
+    /**
+     * Serves the pre-serialized catalog body. Spring answers 304 Not Modified itself when the
+     * request's If-None-Match matches the ETag, so neither case touches the database or Jackson.
+     */
     @GetMapping
-    public ResponseEntity<Map<String, List<CategoryResponseDTO>>> getAllCategories() {
-        List<CategoryResponseDTO> categories = categoryService.getAllCategories().stream()
-                .map(categoryMapper::toResponseDTO)
-                .collect(Collectors.toList());
-
-        Map<String, List<CategoryResponseDTO>> map = new HashMap<>();
-        map.put("categories", categories);
-        return ResponseEntity.ok(map);
+    public ResponseEntity<byte[]> getAllCategories() {
+        CategoryService.Catalog catalog = categoryService.getCatalog();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(catalog.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(catalog.body());
     }
 
     @GetMapping("/{id}")
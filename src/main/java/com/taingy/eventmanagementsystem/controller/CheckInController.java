@@ -0,0 +1,74 @@
+package com.taingy.eventmanagementsystem.controller;
+
+import com.taingy.eventmanagementsystem.dto.CheckInScanRequest;
+import com.taingy.eventmanagementsystem.dto.CheckInStatus;
+import com.taingy.eventmanagementsystem.enums.CheckInResult;
+import com.taingy.eventmanagementsystem.exception.BadRequestException;
+import com.taingy.eventmanagementsystem.service.AuthService;
+import com.taingy.eventmanagementsystem.service.CheckInService;
+import com.taingy.eventmanagementsystem.util.AuthUtil;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/events/{eventId}/check-in")
+@CrossOrigin(origins = "*")
+public class CheckInController {
+
+    private static final String ADMIN_ONLY = "Only administrators can check in tickets";
+
+    private final CheckInService checkInService;
+    private final AuthService authService;
+
+    public CheckInController(CheckInService checkInService, AuthService authService) {
+        this.checkInService = checkInService;
+        this.authService = authService;
+    }
+
+    /**
+     * Opens check-in for the event, loading its tickets for scanning. Opening an already open
+     * check-in returns its current status.
+     */
+    @PostMapping
+    public ResponseEntity<CheckInStatus> openCheckIn(@PathVariable UUID eventId) {
+        AuthUtil.requireAdmin(authService, ADMIN_ONLY);
+        return ResponseEntity.ok(checkInService.open(eventId));
+    }
+
+    @GetMapping
+    public ResponseEntity<CheckInStatus> getCheckIn(@PathVariable UUID eventId) {
+        AuthUtil.requireAdmin(authService, ADMIN_ONLY);
+        return ResponseEntity.ok(checkInService.getStatus(eventId));
+    }
+
+    /**
+     * Scans a ticket at the door. Scanning an admitted ticket again reports ALREADY_CHECKED_IN
+     * rather than failing, so devices can safely retry.
+     */
+    @PostMapping("/scan")
+    public ResponseEntity<Map<String, Object>> scan(@PathVariable UUID eventId,
+                                                    @RequestBody CheckInScanRequest request) {
+        AuthUtil.requireAdmin(authService, ADMIN_ONLY);
+        if (request.qrCode() == null || request.qrCode().isBlank()) {
+            throw new BadRequestException("QR code is required");
+        }
+
+        CheckInResult result = checkInService.scan(eventId, request.qrCode());
+        Map<String, Object> response = new HashMap<>();
+        response.put("qrCode", request.qrCode());
+        response.put("result", result);
+        response.put("admitted", result == CheckInResult.ADMITTED);
+        return ResponseEntity.ok(response);
+    }
+
+    /** Closes check-in after saving every outstanding scan. */
+    @DeleteMapping
+    public ResponseEntity<CheckInStatus> closeCheckIn(@PathVariable UUID eventId) {
+        AuthUtil.requireAdmin(authService, ADMIN_ONLY);
+        return ResponseEntity.ok(checkInService.close(eventId));
+    }
+}
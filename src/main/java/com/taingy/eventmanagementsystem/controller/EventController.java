@@ -2,6 +2,9 @@ package com.taingy.eventmanagementsystem.controller;
 
 import com.taingy.eventmanagementsystem.dto.EventRequestDTO;
 import com.taingy.eventmanagementsystem.dto.EventResponseDTO;
+import com.taingy.eventmanagementsystem.dto.EventSummary;
+import com.taingy.eventmanagementsystem.dto.EventVersion;
+import com.taingy.eventmanagementsystem.dto.RegistrationSummary;
 import com.taingy.eventmanagementsystem.enums.EventStatus;
 import com.taingy.eventmanagementsystem.enums.Role;
 import com.taingy.eventmanagementsystem.exception.BadRequestException;
@@ -15,11 +18,15 @@ import com.taingy.eventmanagementsystem.model.User;
 import com.taingy.eventmanagementsystem.service.AuthService;
 import com.taingy.eventmanagementsystem.service.CategoryService;
 import com.taingy.eventmanagementsystem.service.EventService;
+import com.taingy.eventmanagementsystem.service.FlashSaleService;
 import com.taingy.eventmanagementsystem.util.AuthUtil;
+import com.taingy.eventmanagementsystem.util.CursorPage;
+import com.taingy.eventmanagementsystem.util.PageCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -32,23 +39,28 @@ import java.util.stream.Collectors;
 @CrossOrigin(origins = "*")
 public class EventController {
 
+    private static final String FLASH_SALE_ADMIN_ONLY = "Only administrators can manage flash sales";
+
     private final EventService eventService;
     private final AuthService authService;
     private final CategoryService categoryService;
     private final EventMapper eventMapper;
     private final com.taingy.eventmanagementsystem.service.RegistrationService registrationService;
     private final com.taingy.eventmanagementsystem.mapper.RegistrationMapper registrationMapper;
+    private final FlashSaleService flashSaleService;
 
     public EventController(EventService eventService, AuthService authService,
                           CategoryService categoryService, EventMapper eventMapper,
                           com.taingy.eventmanagementsystem.service.RegistrationService registrationService,
-                          com.taingy.eventmanagementsystem.mapper.RegistrationMapper registrationMapper) {
+                          com.taingy.eventmanagementsystem.mapper.RegistrationMapper registrationMapper,
+                          FlashSaleService flashSaleService) {
         this.eventService = eventService;
         this.authService = authService;
         this.categoryService = categoryService;
         this.eventMapper = eventMapper;
         this.registrationService = registrationService;
         this.registrationMapper = registrationMapper;
+        this.flashSaleService = flashSaleService;
     }
 
     @PostMapping
@@ -92,30 +104,34 @@ public class EventController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(value = "after", required = false) String after
     ) {
+        if (after != null) {
+            PageCursor cursor = PageCursor.decode(after, sortBy, sortDir);
+            CursorPage<EventSummary> cursorPage = CursorPage.fetch(size,
+                    limit -> eventService.searchEventsAfter(search, status, categoryId, cursor, limit),
+                    row -> new PageCursor(row.createdAt(), row.id()));
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("events", eventMapper.summariesToResponseDTOs(cursorPage.rows(),
+                    getRegisteredEventIdsForCurrentUser(cursorPage.rows())));
+            response.put("pageSize", cursorPage.pageSize());
+            response.put("hasNext", cursorPage.hasNext());
+            response.put("nextCursor", cursorPage.nextCursor());
+            return ResponseEntity.ok(response);
+        }
+
         Sort sort = sortDir.equalsIgnoreCase("asc")
                 ? Sort.by(sortBy).ascending()
                 : Sort.by(sortBy).descending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Event> eventPage = eventService.searchEvents(search, status, categoryId, pageable);
-
-        // Get current user and their registered event IDs
-        String username = AuthUtil.getCurrentUsername();
-        Set<UUID> registeredEventIds = new HashSet<>();
-        if (username != null) {
-            User currentUser = authService.getUserByUsername(username);
-            if (currentUser != null) {
-                registeredEventIds = registrationService.getRegisteredEventIdsForUser(currentUser.getId());
-            }
-        }
+        Page<EventSummary> eventPage = eventService.searchEvents(search, status, categoryId, pageable);
 
         // Map events to DTOs with registration status
-        final Set<UUID> finalRegisteredEventIds = registeredEventIds;
-        List<EventResponseDTO> events = eventPage.getContent().stream()
-                .map(event -> eventMapper.toResponseDTO(event, finalRegisteredEventIds.contains(event.getId())))
-                .collect(Collectors.toList());
+        List<EventResponseDTO> events = eventMapper.summariesToResponseDTOs(eventPage.getContent(),
+                getRegisteredEventIdsForCurrentUser(eventPage.getContent()));
 
         Map<String, Object> response = new HashMap<>();
         response.put("events", events);
@@ -129,11 +145,41 @@ public class EventController {
         return ResponseEntity.ok(response);
     }
 
+    // Which of the listed events the current user is registered for
+    private Set<UUID> getRegisteredEventIdsForCurrentUser(List<EventSummary> events) {
+        String username = AuthUtil.getCurrentUsername();
+        Set<UUID> registeredEventIds = new HashSet<>();
+        if (username != null && !events.isEmpty()) {
+            User currentUser = authService.getUserByUsername(username);
+            if (currentUser != null) {
+                List<UUID> eventIds = events.stream().map(EventSummary::id).toList();
+                registeredEventIds = registrationService.getRegisteredEventIdsForUser(currentUser.getId(), eventIds);
+            }
+        }
+
+        return registeredEventIds;
+    }
+
+    /**
+     * Event detail with a strong ETag. A request carrying If-None-Match is first checked against a
+     * version-only query, so an unchanged event answers 304 without loading it.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<EventResponseDTO> getEventById(@PathVariable UUID id) {
+    public ResponseEntity<EventResponseDTO> getEventById(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<String> currentETag = eventService.getEventVersion(id).map(EventVersion::etag);
+            if (currentETag.isPresent() && matchesETag(ifNoneMatch, currentETag.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag.get()).build();
+            }
+        }
+
         Event event = eventService.getEventById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Event", "id", id));
-        return ResponseEntity.ok(eventMapper.toResponseDTO(event));
+        return ResponseEntity.ok()
+                .eTag(EventVersion.of(event).etag())
+                .body(eventMapper.toResponseDTO(event));
     }
 
     @PutMapping("/{id}")
@@ -196,23 +242,34 @@ public class EventController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(value = "after", required = false) String after
     ) {
-        Event event = eventService.getEventById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", id));
+        if (after != null) {
+            PageCursor cursor = PageCursor.decode(after, sortBy, sortDir);
+            CursorPage<RegistrationSummary> cursorPage = CursorPage.fetch(size,
+                    limit -> registrationService.getRegistrationsByEventAfter(id, cursor, limit),
+                    row -> new PageCursor(row.createdAt(), row.id()));
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("registrations", registrationMapper.toResponseDTOs(cursorPage.rows(),
+                    registrationService.getRegisteredEvents(cursorPage.rows())));
+            response.put("pageSize", cursorPage.pageSize());
+            response.put("hasNext", cursorPage.hasNext());
+            response.put("nextCursor", cursorPage.nextCursor());
+            return ResponseEntity.ok(response);
+        }
 
         Sort sort = sortDir.equalsIgnoreCase("asc")
                 ? Sort.by(sortBy).ascending()
                 : Sort.by(sortBy).descending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<com.taingy.eventmanagementsystem.model.Registration> registrationPage =
-                registrationService.getRegistrationsByEvent(id, pageable);
+        Page<RegistrationSummary> registrationPage = registrationService.getRegistrationsByEvent(id, pageable);
 
         List<com.taingy.eventmanagementsystem.dto.RegistrationResponseDTO> registrations =
-                registrationPage.getContent().stream()
-                .map(registrationMapper::toResponseDTO)
-                .collect(Collectors.toList());
+                registrationMapper.toResponseDTOs(registrationPage.getContent(),
+                        registrationService.getRegisteredEvents(registrationPage.getContent()));
 
         Map<String, Object> response = new HashMap<>();
         response.put("registrations", registrations);
@@ -226,5 +283,37 @@ public class EventController {
         return ResponseEntity.ok(response);
     }
 
-}
+    @PostMapping("/{id}/flash-sale")
+    public ResponseEntity<Map<String, Object>> openFlashSale(@PathVariable UUID id) {
+        AuthUtil.requireAdmin(authService, FLASH_SALE_ADMIN_ONLY);
+
+        int availablePermits = flashSaleService.openFlashSale(id);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("eventId", id);
+        response.put("flashSale", true);
+        response.put("availablePermits", availablePermits);
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/{id}/flash-sale")
+    public ResponseEntity<Void> closeFlashSale(@PathVariable UUID id) {
+        AuthUtil.requireAdmin(authService, FLASH_SALE_ADMIN_ONLY);
+
+        flashSaleService.closeFlashSale(id);
+        return ResponseEntity.noContent().build();
+    }
 
+
+    // If-None-Match uses weak comparison, so a W/ prefix on either side is ignored
+    private static boolean matchesETag(String ifNoneMatch, String etag) {
+        String current = etag.startsWith("W/") ? etag.substring(2) : etag;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || (trimmed.startsWith("W/") ? trimmed.substring(2) : trimmed).equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
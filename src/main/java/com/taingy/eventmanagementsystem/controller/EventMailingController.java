@@ -0,0 +1,69 @@
+package com.taingy.eventmanagementsystem.controller;
+
+import com.taingy.eventmanagementsystem.dto.EventMailingRequestDTO;
+import com.taingy.eventmanagementsystem.dto.EventMailingResponseDTO;
+import com.taingy.eventmanagementsystem.mapper.EventMailingMapper;
+import com.taingy.eventmanagementsystem.model.EventMailing;
+import com.taingy.eventmanagementsystem.model.User;
+import com.taingy.eventmanagementsystem.service.AuthService;
+import com.taingy.eventmanagementsystem.service.EventMailingService;
+import com.taingy.eventmanagementsystem.util.AuthUtil;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/events/{eventId}/mailings")
+@CrossOrigin(origins = "*")
+public class EventMailingController {
+
+    private static final String ADMIN_ONLY = "Only administrators can send event mailings";
+
+    private final EventMailingService eventMailingService;
+    private final EventMailingMapper eventMailingMapper;
+    private final AuthService authService;
+
+    public EventMailingController(EventMailingService eventMailingService, EventMailingMapper eventMailingMapper,
+                                  AuthService authService) {
+        this.eventMailingService = eventMailingService;
+        this.eventMailingMapper = eventMailingMapper;
+        this.authService = authService;
+    }
+
+    /**
+     * Queues a mailing to every active registrant of the event. Delivery happens in the background;
+     * poll the returned mailing for progress.
+     */
+    @PostMapping
+    public ResponseEntity<EventMailingResponseDTO> createMailing(@PathVariable UUID eventId,
+                                                                 @RequestBody EventMailingRequestDTO request) {
+        User admin = AuthUtil.requireAdmin(authService, ADMIN_ONLY);
+        EventMailing mailing = eventMailingService.createMailing(eventId, request, admin);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(eventMailingMapper.toResponseDTO(mailing));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<EventMailingResponseDTO>> getMailings(@PathVariable UUID eventId) {
+        AuthUtil.requireAdmin(authService, ADMIN_ONLY);
+        List<EventMailingResponseDTO> mailings = eventMailingService.getMailingsForEvent(eventId).stream()
+                .map(eventMailingMapper::toResponseDTO)
+                .toList();
+        return ResponseEntity.ok(mailings);
+    }
+
+    @GetMapping("/{mailingId}")
+    public ResponseEntity<EventMailingResponseDTO> getMailing(@PathVariable UUID eventId, @PathVariable UUID mailingId) {
+        AuthUtil.requireAdmin(authService, ADMIN_ONLY);
+        return ResponseEntity.ok(eventMailingMapper.toResponseDTO(eventMailingService.getMailing(eventId, mailingId)));
+    }
+
+    @PostMapping("/{mailingId}/resume")
+    public ResponseEntity<EventMailingResponseDTO> resumeMailing(@PathVariable UUID eventId, @PathVariable UUID mailingId) {
+        AuthUtil.requireAdmin(authService, ADMIN_ONLY);
+        EventMailing mailing = eventMailingService.resumeMailing(eventId, mailingId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(eventMailingMapper.toResponseDTO(mailing));
+    }
+}
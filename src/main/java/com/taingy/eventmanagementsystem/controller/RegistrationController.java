@@ -2,7 +2,9 @@ package com.taingy.eventmanagementsystem.controller;
 
 import com.taingy.eventmanagementsystem.dto.RegistrationRequestDTO;
 import com.taingy.eventmanagementsystem.dto.RegistrationResponseDTO;
+import com.taingy.eventmanagementsystem.dto.RegistrationSummary;
 import com.taingy.eventmanagementsystem.dto.RegistrationUpdateDTO;
+import com.taingy.eventmanagementsystem.enums.RegistrationStatus;
 import com.taingy.eventmanagementsystem.exception.BadRequestException;
 import com.taingy.eventmanagementsystem.exception.ResourceNotFoundException;
 import com.taingy.eventmanagementsystem.exception.UnauthorizedException;
@@ -12,6 +14,8 @@ import com.taingy.eventmanagementsystem.model.User;
 import com.taingy.eventmanagementsystem.service.AuthService;
 import com.taingy.eventmanagementsystem.service.RegistrationService;
 import com.taingy.eventmanagementsystem.util.AuthUtil;
+import com.taingy.eventmanagementsystem.util.CursorPage;
+import com.taingy.eventmanagementsystem.util.PageCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -28,6 +32,9 @@ import java.util.stream.Collectors;
 @CrossOrigin(origins = "*")
 public class RegistrationController {
 
+    // Enough for a page of event cards while keeping the IN list short
+    private static final int MAX_CHECK_EVENT_IDS = 100;
+
     private final RegistrationService registrationService;
     private final RegistrationMapper registrationMapper;
     private final AuthService authService;
@@ -77,18 +84,33 @@ public class RegistrationController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(value = "after", required = false) String after
     ) {
+        if (after != null) {
+            PageCursor cursor = PageCursor.decode(after, sortBy, sortDir);
+            CursorPage<RegistrationSummary> cursorPage = CursorPage.fetch(size,
+                    limit -> registrationService.getRegistrationsByUserAfter(userId, cursor, limit),
+                    row -> new PageCursor(row.createdAt(), row.id()));
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("registrations", registrationMapper.toResponseDTOs(cursorPage.rows(),
+                    registrationService.getRegisteredEvents(cursorPage.rows())));
+            response.put("pageSize", cursorPage.pageSize());
+            response.put("hasNext", cursorPage.hasNext());
+            response.put("nextCursor", cursorPage.nextCursor());
+            return ResponseEntity.ok(response);
+        }
+
         Sort sort = sortDir.equalsIgnoreCase("asc")
                 ? Sort.by(sortBy).ascending()
                 : Sort.by(sortBy).descending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Registration> registrationPage = registrationService.getRegistrationsByUser(userId, pageable);
+        Page<RegistrationSummary> registrationPage = registrationService.getRegistrationsByUser(userId, pageable);
 
-        List<RegistrationResponseDTO> registrations = registrationPage.getContent().stream()
-                .map(registrationMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        List<RegistrationResponseDTO> registrations = registrationMapper.toResponseDTOs(registrationPage.getContent(),
+                registrationService.getRegisteredEvents(registrationPage.getContent()));
 
         Map<String, Object> response = new HashMap<>();
         response.put("registrations", registrations);
@@ -121,6 +143,43 @@ public class RegistrationController {
 
     @GetMapping("/check/{eventId}")
     public ResponseEntity<Map<String, Boolean>> checkRegistration(@PathVariable UUID eventId) {
+        User currentUser = getCurrentUser();
+
+        boolean isRegistered = registrationService.isUserRegisteredForEvent(currentUser.getId(), eventId);
+
+        Map<String, Boolean> response = new HashMap<>();
+        response.put("registered", isRegistered);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Batch form of {@link #checkRegistration}: the caller's registration state for every event in
+     * {@code eventIds}, keyed by event id. {@code status} is null when there is no registration.
+     */
+    @GetMapping("/check")
+    public ResponseEntity<Map<UUID, Map<String, Object>>> checkRegistrations(@RequestParam List<UUID> eventIds) {
+        if (eventIds.size() > MAX_CHECK_EVENT_IDS) {
+            throw new BadRequestException("At most " + MAX_CHECK_EVENT_IDS + " event ids can be checked at once");
+        }
+        User currentUser = getCurrentUser();
+
+        Map<UUID, RegistrationStatus> statuses = registrationService.getRegistrationStatuses(currentUser.getId(),
+                new HashSet<>(eventIds));
+
+        Map<UUID, Map<String, Object>> response = new LinkedHashMap<>();
+        for (UUID eventId : eventIds) {
+            RegistrationStatus status = statuses.get(eventId);
+            Map<String, Object> state = new HashMap<>();
+            state.put("registered", status != null && status != RegistrationStatus.CANCELLED);
+            state.put("status", status);
+            response.put(eventId, state);
+        }
+
+        return ResponseEntity.ok(response);
+    }
+
+    private User getCurrentUser() {
         String username = AuthUtil.getCurrentUsername();
         if (username == null) {
             throw new UnauthorizedException("Authentication required");
@@ -130,13 +189,7 @@ public class RegistrationController {
         if (currentUser == null) {
             throw new UnauthorizedException("User not found");
         }
-
-        boolean isRegistered = registrationService.isUserRegisteredForEvent(currentUser.getId(), eventId);
-
-        Map<String, Boolean> response = new HashMap<>();
-        response.put("registered", isRegistered);
-
-        return ResponseEntity.ok(response);
+        return currentUser;
     }
 
 }
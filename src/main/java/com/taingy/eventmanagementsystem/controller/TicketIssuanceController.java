@@ -0,0 +1,70 @@
+package com.taingy.eventmanagementsystem.controller;
+
+import com.taingy.eventmanagementsystem.dto.TicketIssuanceResponseDTO;
+import com.taingy.eventmanagementsystem.mapper.TicketIssuanceMapper;
+import com.taingy.eventmanagementsystem.model.TicketIssuance;
+import com.taingy.eventmanagementsystem.model.User;
+import com.taingy.eventmanagementsystem.service.AuthService;
+import com.taingy.eventmanagementsystem.service.TicketIssuanceService;
+import com.taingy.eventmanagementsystem.util.AuthUtil;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/events/{eventId}/ticket-issuances")
+@CrossOrigin(origins = "*")
+public class TicketIssuanceController {
+
+    private static final String ADMIN_ONLY = "Only administrators can issue tickets in bulk";
+
+    private final TicketIssuanceService ticketIssuanceService;
+    private final TicketIssuanceMapper ticketIssuanceMapper;
+    private final AuthService authService;
+
+    public TicketIssuanceController(TicketIssuanceService ticketIssuanceService,
+                                    TicketIssuanceMapper ticketIssuanceMapper, AuthService authService) {
+        this.ticketIssuanceService = ticketIssuanceService;
+        this.ticketIssuanceMapper = ticketIssuanceMapper;
+        this.authService = authService;
+    }
+
+    /**
+     * Queues ticket issuance for every confirmed registration of the event that has no ticket yet.
+     * Tickets are issued in the background; poll the returned issuance for progress.
+     */
+    @PostMapping
+    public ResponseEntity<TicketIssuanceResponseDTO> createIssuance(@PathVariable UUID eventId) {
+        User admin = AuthUtil.requireAdmin(authService, ADMIN_ONLY);
+        TicketIssuance issuance = ticketIssuanceService.createIssuance(eventId, admin);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ticketIssuanceMapper.toResponseDTO(issuance));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<TicketIssuanceResponseDTO>> getIssuances(@PathVariable UUID eventId) {
+        AuthUtil.requireAdmin(authService, ADMIN_ONLY);
+        List<TicketIssuanceResponseDTO> issuances = ticketIssuanceService.getIssuancesForEvent(eventId).stream()
+                .map(ticketIssuanceMapper::toResponseDTO)
+                .toList();
+        return ResponseEntity.ok(issuances);
+    }
+
+    @GetMapping("/{issuanceId}")
+    public ResponseEntity<TicketIssuanceResponseDTO> getIssuance(@PathVariable UUID eventId,
+                                                                 @PathVariable UUID issuanceId) {
+        AuthUtil.requireAdmin(authService, ADMIN_ONLY);
+        return ResponseEntity.ok(ticketIssuanceMapper.toResponseDTO(
+                ticketIssuanceService.getIssuance(eventId, issuanceId)));
+    }
+
+    @PostMapping("/{issuanceId}/resume")
+    public ResponseEntity<TicketIssuanceResponseDTO> resumeIssuance(@PathVariable UUID eventId,
+                                                                    @PathVariable UUID issuanceId) {
+        AuthUtil.requireAdmin(authService, ADMIN_ONLY);
+        TicketIssuance issuance = ticketIssuanceService.resumeIssuance(eventId, issuanceId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ticketIssuanceMapper.toResponseDTO(issuance));
+    }
+}
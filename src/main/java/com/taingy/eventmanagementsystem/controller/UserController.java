@@ -97,8 +97,6 @@ public class UserController {
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteUser(@PathVariable UUID id) {
-        userService.getUserById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
         userService.deleteUser(id);
         return ResponseEntity.noContent().build();
     }
@@ -0,0 +1,4 @@
+package com.taingy.eventmanagementsystem.dto;
+
+public record CheckInScanRequest(String qrCode) {
+}
@@ -0,0 +1,8 @@
+package com.taingy.eventmanagementsystem.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** Snapshot of an event's open check-in. */
+public record CheckInStatus(UUID eventId, int tickets, int checkedIn, int pendingFlush, LocalDateTime openedAt) {
+}
@@ -0,0 +1,15 @@
+package com.taingy.eventmanagementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventMailingRequestDTO {
+    private String subject;
+    private String message;
+}
@@ -0,0 +1,27 @@
+package com.taingy.eventmanagementsystem.dto;
+
+import com.taingy.eventmanagementsystem.enums.MailingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventMailingResponseDTO {
+    private UUID id;
+    private UUID eventId;
+    private String subject;
+    private MailingStatus status;
+    private Integer totalRecipients;
+    private Integer sentCount;
+    private Integer requestCount;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,50 @@
+package com.taingy.eventmanagementsystem.dto;
+
+import com.taingy.eventmanagementsystem.enums.EventStatus;
+import com.taingy.eventmanagementsystem.enums.Role;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only row for event listings: the event columns plus its category and organizer, selected
+ * with a JPQL constructor expression so list pages never hydrate (or dirty-check) entities.
+ * Category and organizer columns are {@code null} when the event has none.
+ */
+public record EventSummary(
+        UUID id,
+        String title,
+        String description,
+        String location,
+        LocalDate eventDate,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        Double price,
+        Integer capacity,
+        Integer registeredCount,
+        EventStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Integer categoryId,
+        String categoryName,
+        String categoryDescription,
+        UUID organizerId,
+        String organizerUsername,
+        String organizerEmail,
+        String organizerFirstName,
+        String organizerLastName,
+        Role organizerRole,
+        LocalDateTime organizerCreatedAt,
+        LocalDateTime organizerUpdatedAt
+) {
+
+    /** Select list matching the constructor, for queries with {@code e}, {@code c} and {@code o} aliases. */
+    public static final String SELECT = """
+            new com.taingy.eventmanagementsystem.dto.EventSummary(
+                e.id, e.title, e.description, e.location, e.eventDate, e.startTime, e.endTime,
+                e.price, e.capacity, e.registeredCount, e.status, e.createdAt, e.updatedAt,
+                c.id, c.name, c.description,
+                o.id, o.username, o.email, o.firstName, o.lastName, o.role, o.createdAt, o.updatedAt)
+            """;
+}
@@ -0,0 +1,32 @@
+package com.taingy.eventmanagementsystem.dto;
+
+import com.taingy.eventmanagementsystem.model.Event;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Everything the event detail response depends on that can change without bumping the event's
+ * JPA version: the registration counter (maintained by bulk updates) and the embedded organizer
+ * and category. Small enough to load with a single query when revalidating a cached copy.
+ */
+public record EventVersion(Long version, Integer registeredCount, LocalDateTime organizerUpdatedAt,
+                           String categoryName, String categoryDescription) {
+
+    public static EventVersion of(Event event) {
+        return new EventVersion(
+                event.getVersion(),
+                event.getRegisteredCount(),
+                event.getOrganizer() != null ? event.getOrganizer().getUpdatedAt() : null,
+                event.getCategory() != null ? event.getCategory().getName() : null,
+                event.getCategory() != null ? event.getCategory().getDescription() : null);
+    }
+
+    /** Strong ETag for the event detail response, e.g. {@code "3-42-9f86d081"}. */
+    public String etag() {
+        String related = organizerUpdatedAt + "|" + categoryName + "|" + categoryDescription;
+        String digest = DigestUtils.md5DigestAsHex(related.getBytes(StandardCharsets.UTF_8)).substring(0, 8);
+        return "\"" + version + "-" + registeredCount + "-" + digest + "\"";
+    }
+}
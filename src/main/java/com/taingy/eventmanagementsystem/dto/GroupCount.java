@@ -0,0 +1,5 @@
+package com.taingy.eventmanagementsystem.dto;
+
+/** One row of a {@code GROUP BY} count query: the group key and the number of rows in it. */
+public record GroupCount<K>(K key, long count) {
+}
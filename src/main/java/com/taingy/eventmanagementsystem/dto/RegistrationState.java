@@ -0,0 +1,9 @@
+package com.taingy.eventmanagementsystem.dto;
+
+import com.taingy.eventmanagementsystem.enums.RegistrationStatus;
+
+import java.util.UUID;
+
+/** A user's registration status for one event, read without loading the registration. */
+public record RegistrationState(UUID eventId, RegistrationStatus status) {
+}
@@ -0,0 +1,37 @@
+package com.taingy.eventmanagementsystem.dto;
+
+import com.taingy.eventmanagementsystem.enums.RegistrationStatus;
+import com.taingy.eventmanagementsystem.enums.Role;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only row for registration listings: the registration and its user in one constructor
+ * projection. The registered events are resolved separately as {@link EventSummary} rows, once per
+ * distinct event on the page.
+ */
+public record RegistrationSummary(
+        UUID id,
+        UUID eventId,
+        RegistrationStatus status,
+        String note,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        UUID userId,
+        String username,
+        String email,
+        String firstName,
+        String lastName,
+        Role role,
+        LocalDateTime userCreatedAt,
+        LocalDateTime userUpdatedAt
+) {
+
+    /** Select list matching the constructor, for queries with {@code r} and {@code u} aliases. */
+    public static final String SELECT = """
+            new com.taingy.eventmanagementsystem.dto.RegistrationSummary(
+                r.id, r.event.id, r.status, r.note, r.createdAt, r.updatedAt,
+                u.id, u.username, u.email, u.firstName, u.lastName, u.role, u.createdAt, u.updatedAt)
+            """;
+}
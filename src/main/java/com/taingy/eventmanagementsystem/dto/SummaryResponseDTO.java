@@ -1,10 +1,16 @@
 package com.taingy.eventmanagementsystem.dto;
 
+import com.taingy.eventmanagementsystem.enums.EventStatus;
+import com.taingy.eventmanagementsystem.enums.RegistrationStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -13,4 +19,11 @@ public class SummaryResponseDTO {
     private Long totalEvents;
     private Long totalUsers;
     private Long totalCategories;
+    private Long totalRegistrations;
+    private Map<EventStatus, Long> eventsByStatus;
+    private Map<RegistrationStatus, Long> registrationsByStatus;
+    // Registrations created per day, oldest first, including days without any
+    private Map<LocalDate, Long> registrationsPerDay;
+    // When the counters were last recounted from the database; later writes are applied incrementally
+    private LocalDateTime reconciledAt;
 }
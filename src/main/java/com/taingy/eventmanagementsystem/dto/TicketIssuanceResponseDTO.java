@@ -0,0 +1,26 @@
+package com.taingy.eventmanagementsystem.dto;
+
+import com.taingy.eventmanagementsystem.enums.IssuanceStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketIssuanceResponseDTO {
+    private UUID id;
+    private UUID eventId;
+    private IssuanceStatus status;
+    private Integer totalRegistrations;
+    private Integer issuedCount;
+    private Integer batchCount;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,8 @@
+package com.taingy.eventmanagementsystem.enums;
+
+public enum CheckInResult {
+    ADMITTED,
+    ALREADY_CHECKED_IN,
+    NOT_VALID,
+    NOT_FOUND
+}
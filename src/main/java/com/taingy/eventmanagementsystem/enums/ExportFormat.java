@@ -0,0 +1,6 @@
+package com.taingy.eventmanagementsystem.enums;
+
+public enum ExportFormat {
+    CSV,
+    NDJSON
+}
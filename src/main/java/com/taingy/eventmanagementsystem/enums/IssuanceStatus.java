@@ -0,0 +1,8 @@
+package com.taingy.eventmanagementsystem.enums;
+
+public enum IssuanceStatus {
+    PENDING,
+    IN_PROGRESS,
+    COMPLETED,
+    FAILED
+}
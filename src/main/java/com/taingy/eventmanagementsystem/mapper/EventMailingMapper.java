@@ -0,0 +1,28 @@
+package com.taingy.eventmanagementsystem.mapper;
+
+import com.taingy.eventmanagementsystem.dto.EventMailingResponseDTO;
+import com.taingy.eventmanagementsystem.model.EventMailing;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EventMailingMapper {
+
+    public EventMailingResponseDTO toResponseDTO(EventMailing mailing) {
+        if (mailing == null) {
+            return null;
+        }
+
+        return EventMailingResponseDTO.builder()
+                .id(mailing.getId())
+                .eventId(mailing.getEvent().getId())
+                .subject(mailing.getSubject())
+                .status(mailing.getStatus())
+                .totalRecipients(mailing.getTotalRecipients())
+                .sentCount(mailing.getSentCount())
+                .requestCount(mailing.getRequestCount())
+                .lastError(mailing.getLastError())
+                .createdAt(mailing.getCreatedAt())
+                .completedAt(mailing.getCompletedAt())
+                .build();
+    }
+}
@@ -1,22 +1,25 @@
 package com.taingy.eventmanagementsystem.mapper;
 
+import com.taingy.eventmanagementsystem.dto.CategoryResponseDTO;
 import com.taingy.eventmanagementsystem.dto.EventRequestDTO;
 import com.taingy.eventmanagementsystem.dto.EventResponseDTO;
+import com.taingy.eventmanagementsystem.dto.EventSummary;
+import com.taingy.eventmanagementsystem.dto.UserResponseDTO;
 import com.taingy.eventmanagementsystem.model.Event;
-import com.taingy.eventmanagementsystem.repository.RegistrationRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.*;
+import java.util.stream.Collectors;
+
 @Component
 public class EventMapper {
 
     private final UserMapper userMapper;
     private final CategoryMapper categoryMapper;
-    private final RegistrationRepository registrationRepository;
 
-    public EventMapper(UserMapper userMapper, CategoryMapper categoryMapper, RegistrationRepository registrationRepository) {
+    public EventMapper(UserMapper userMapper, CategoryMapper categoryMapper) {
         this.userMapper = userMapper;
         this.categoryMapper = categoryMapper;
-        this.registrationRepository = registrationRepository;
     }
 
     public EventResponseDTO toResponseDTO(Event event) {
@@ -24,28 +27,7 @@ public class EventMapper {
             return null;
         }
 
-        long registeredCount = registrationRepository.countByEvent(event);
-        Integer seatsAvailable = event.getCapacity() != null ?
-                (int) (event.getCapacity() - registeredCount) : null;
-
-        return EventResponseDTO.builder()
-                .id(event.getId())
-                .title(event.getTitle())
-                .description(event.getDescription())
-                .location(event.getLocation())
-                .eventDate(event.getEventDate())
-                .startTime(event.getStartTime())
-                .endTime(event.getEndTime())
-                .price(event.getPrice())
-                .capacity(event.getCapacity())
-                .availableSeats(seatsAvailable)
-                .status(event.getStatus())
-                .createdAt(event.getCreatedAt())
-                .updatedAt(event.getUpdatedAt())
-                .category(categoryMapper.toResponseDTO(event.getCategory()))
-                .organizer(userMapper.toResponseDTO(event.getOrganizer()))
-                .registered(null)
-                .build();
+        return buildResponseDTO(event, null);
     }
 
     public EventResponseDTO toResponseDTO(Event event, boolean isRegistered) {
@@ -53,9 +35,80 @@ public class EventMapper {
             return null;
         }
 
-        long registeredCount = registrationRepository.countByEvent(event);
+        return buildResponseDTO(event, isRegistered);
+    }
+
+    public List<EventResponseDTO> toResponseDTOs(List<Event> events, Set<UUID> registeredEventIds) {
+        if (events == null || events.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return events.stream()
+                .map(event -> buildResponseDTO(event,
+                        registeredEventIds != null && registeredEventIds.contains(event.getId())))
+                .collect(Collectors.toList());
+    }
+
+    public List<EventResponseDTO> summariesToResponseDTOs(List<EventSummary> events, Set<UUID> registeredEventIds) {
+        if (events == null || events.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return events.stream()
+                .map(event -> toResponseDTO(event,
+                        registeredEventIds != null && registeredEventIds.contains(event.id())))
+                .collect(Collectors.toList());
+    }
+
+    public EventResponseDTO toResponseDTO(EventSummary event, Boolean isRegistered) {
+        if (event == null) {
+            return null;
+        }
+
+        int registeredCount = event.registeredCount() != null ? event.registeredCount() : 0;
+        Integer seatsAvailable = event.capacity() != null ?
+                event.capacity() - registeredCount : null;
+
+        CategoryResponseDTO category = event.categoryId() == null ? null : CategoryResponseDTO.builder()
+                .id(event.categoryId())
+                .name(event.categoryName())
+                .description(event.categoryDescription())
+                .build();
+        UserResponseDTO organizer = event.organizerId() == null ? null : UserResponseDTO.builder()
+                .id(event.organizerId())
+                .username(event.organizerUsername())
+                .email(event.organizerEmail())
+                .firstName(event.organizerFirstName())
+                .lastName(event.organizerLastName())
+                .role(event.organizerRole())
+                .createdAt(event.organizerCreatedAt())
+                .updatedAt(event.organizerUpdatedAt())
+                .build();
+
+        return EventResponseDTO.builder()
+                .id(event.id())
+                .title(event.title())
+                .description(event.description())
+                .location(event.location())
+                .eventDate(event.eventDate())
+                .startTime(event.startTime())
+                .endTime(event.endTime())
+                .price(event.price())
+                .capacity(event.capacity())
+                .availableSeats(seatsAvailable)
+                .status(event.status())
+                .createdAt(event.createdAt())
+                .updatedAt(event.updatedAt())
+                .category(category)
+                .organizer(organizer)
+                .registered(isRegistered)
+                .build();
+    }
+
+    private EventResponseDTO buildResponseDTO(Event event, Boolean isRegistered) {
+        int registeredCount = event.getRegisteredCount() != null ? event.getRegisteredCount() : 0;
         Integer seatsAvailable = event.getCapacity() != null ?
-                (int) (event.getCapacity() - registeredCount) : null;
+                event.getCapacity() - registeredCount : null;
 
         return EventResponseDTO.builder()
                 .id(event.getId())
@@ -1,9 +1,17 @@
 package com.taingy.eventmanagementsystem.mapper;
 
+import com.taingy.eventmanagementsystem.dto.EventSummary;
 import com.taingy.eventmanagementsystem.dto.RegistrationResponseDTO;
+import com.taingy.eventmanagementsystem.dto.RegistrationSummary;
+import com.taingy.eventmanagementsystem.dto.UserResponseDTO;
 import com.taingy.eventmanagementsystem.model.Registration;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
 @Component
 public class RegistrationMapper {
 
@@ -30,4 +38,32 @@ public class RegistrationMapper {
                 .updatedAt(registration.getUpdatedAt())
                 .build();
     }
+
+    /**
+     * Maps registration rows, taking each registration's event from {@code events} (keyed by
+     * event id) instead of loading it.
+     */
+    public List<RegistrationResponseDTO> toResponseDTOs(List<RegistrationSummary> registrations,
+                                                        Map<UUID, EventSummary> events) {
+        return registrations.stream()
+                .map(registration -> RegistrationResponseDTO.builder()
+                        .id(registration.id())
+                        .event(eventMapper.toResponseDTO(events.get(registration.eventId()), null))
+                        .user(UserResponseDTO.builder()
+                                .id(registration.userId())
+                                .username(registration.username())
+                                .email(registration.email())
+                                .firstName(registration.firstName())
+                                .lastName(registration.lastName())
+                                .role(registration.role())
+                                .createdAt(registration.userCreatedAt())
+                                .updatedAt(registration.userUpdatedAt())
+                                .build())
+                        .status(registration.status())
+                        .note(registration.note())
+                        .createdAt(registration.createdAt())
+                        .updatedAt(registration.updatedAt())
+                        .build())
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,27 @@
+package com.taingy.eventmanagementsystem.mapper;
+
+import com.taingy.eventmanagementsystem.dto.TicketIssuanceResponseDTO;
+import com.taingy.eventmanagementsystem.model.TicketIssuance;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TicketIssuanceMapper {
+
+    public TicketIssuanceResponseDTO toResponseDTO(TicketIssuance issuance) {
+        if (issuance == null) {
+            return null;
+        }
+
+        return TicketIssuanceResponseDTO.builder()
+                .id(issuance.getId())
+                .eventId(issuance.getEvent().getId())
+                .status(issuance.getStatus())
+                .totalRegistrations(issuance.getTotalRegistrations())
+                .issuedCount(issuance.getIssuedCount())
+                .batchCount(issuance.getBatchCount())
+                .lastError(issuance.getLastError())
+                .createdAt(issuance.getCreatedAt())
+                .completedAt(issuance.getCompletedAt())
+                .build();
+    }
+}
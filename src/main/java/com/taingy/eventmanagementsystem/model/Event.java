@@ -48,6 +48,10 @@ public class Event {
     @Column(name = "capacity")
     private Integer capacity;
 
+    // Maintained only by EventRepository's conditional increment/decrement queries
+    @Column(name = "registered_count", nullable = false, updatable = false)
+    private Integer registeredCount = 0;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", length = 50, nullable = false)
     private EventStatus status = EventStatus.ACTIVE;
@@ -0,0 +1,83 @@
+package com.taingy.eventmanagementsystem.model;
+
+import com.taingy.eventmanagementsystem.enums.MailingStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * An email sent to every active registrant of an event. Recipients are walked in registration id
+ * order and {@code lastRegistrationId} records how far delivery got, so an interrupted mailing
+ * resumes after the last delivered batch instead of starting over. Only the processor holding the
+ * lease may send, so several application instances never deliver the same mailing at once.
+ */
+@Entity
+@Table(name = "event_mailings",
+       indexes = @Index(name = "idx_event_mailings_status", columnList = "status, created_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventMailing {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "event_id", nullable = false)
+    private Event event;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "created_by")
+    private User createdBy;
+
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    @Column(name = "message", columnDefinition = "TEXT", nullable = false)
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 50, nullable = false)
+    private MailingStatus status = MailingStatus.PENDING;
+
+    @Column(name = "total_recipients", nullable = false)
+    private Integer totalRecipients = 0;
+
+    @Column(name = "sent_count", nullable = false)
+    private Integer sentCount = 0;
+
+    @Column(name = "request_count", nullable = false)
+    private Integer requestCount = 0;
+
+    @Column(name = "last_registration_id")
+    private UUID lastRegistrationId;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    /** Processor currently delivering the mailing; it owns the mailing until {@code leaseUntil}. */
+    @Column(name = "claimed_by", length = 64)
+    private String claimedBy;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
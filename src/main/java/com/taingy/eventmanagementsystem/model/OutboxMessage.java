@@ -0,0 +1,54 @@
+package com.taingy.eventmanagementsystem.model;
+
+import com.taingy.eventmanagementsystem.enums.OutboxMessageType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Pending registration side effect (notification + email), written in the same
+ * transaction as the registration change and processed later by RegistrationOutboxDispatcher.
+ * {@code processedAt} is only set once the email has been accepted (or retries are exhausted).
+ */
+@Entity
+@Table(name = "outbox_messages",
+       indexes = @Index(name = "idx_outbox_messages_pending", columnList = "processed_at, created_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", length = 50, nullable = false)
+    private OutboxMessageType type;
+
+    @Column(name = "registration_id", nullable = false)
+    private UUID registrationId;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    /** Delivery attempts so far; the notification is written on the first one only. */
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+}
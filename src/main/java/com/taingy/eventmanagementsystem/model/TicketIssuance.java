@@ -0,0 +1,77 @@
+package com.taingy.eventmanagementsystem.model;
+
+import com.taingy.eventmanagementsystem.enums.IssuanceStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A bulk run that issues tickets to every confirmed registration of an event that has none yet.
+ * Registrations are walked in id order and {@code lastRegistrationId} is saved together with each
+ * batch of tickets, so an interrupted run resumes after the last committed batch. Only the processor
+ * holding the lease issues tickets, so several application instances never work the same run at once.
+ */
+@Entity
+@Table(name = "ticket_issuances",
+       indexes = @Index(name = "idx_ticket_issuances_status", columnList = "status, created_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketIssuance {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "event_id", nullable = false)
+    private Event event;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "created_by")
+    private User createdBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 50, nullable = false)
+    private IssuanceStatus status = IssuanceStatus.PENDING;
+
+    @Column(name = "total_registrations", nullable = false)
+    private Integer totalRegistrations = 0;
+
+    @Column(name = "issued_count", nullable = false)
+    private Integer issuedCount = 0;
+
+    @Column(name = "batch_count", nullable = false)
+    private Integer batchCount = 0;
+
+    @Column(name = "last_registration_id")
+    private UUID lastRegistrationId;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    /** Processor currently issuing the run; it owns the run until {@code leaseUntil}. */
+    @Column(name = "claimed_by", length = 64)
+    private String claimedBy;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
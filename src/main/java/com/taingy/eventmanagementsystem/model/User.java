@@ -49,6 +49,14 @@ public class User {
     @Column(name = "email_verified_at")
     private LocalDateTime emailVerifiedAt;
 
+    /**
+     * Carried in issued JWTs; bumping it (password, role or username change) revokes every token
+     * issued before the change.
+     */
+    @Column(name = "token_version", nullable = false)
+    @JsonIgnore
+    private Integer tokenVersion = 0;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
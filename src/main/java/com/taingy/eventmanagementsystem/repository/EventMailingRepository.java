@@ -0,0 +1,66 @@
+package com.taingy.eventmanagementsystem.repository;
+
+import com.taingy.eventmanagementsystem.enums.MailingStatus;
+import com.taingy.eventmanagementsystem.model.EventMailing;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EventMailingRepository extends JpaRepository<EventMailing, UUID> {
+
+    List<EventMailing> findByEventIdOrderByCreatedAtDesc(UUID eventId);
+
+    @EntityGraph(attributePaths = {"event"})
+    List<EventMailing> findByStatusInOrderByCreatedAtAsc(Collection<MailingStatus> statuses);
+
+    /**
+     * Takes the lease on a pending mailing, or on an in-progress one whose lease ran out (its
+     * processor died). Returns {@code 0} when another processor holds it.
+     */
+    @Modifying
+    @Query("""
+        UPDATE EventMailing m
+        SET m.status = com.taingy.eventmanagementsystem.enums.MailingStatus.IN_PROGRESS,
+            m.claimedBy = :claimedBy, m.leaseUntil = :leaseUntil, m.updatedAt = :now
+        WHERE m.id = :id
+        AND (m.status = com.taingy.eventmanagementsystem.enums.MailingStatus.PENDING
+            OR (m.status = com.taingy.eventmanagementsystem.enums.MailingStatus.IN_PROGRESS
+                AND (m.leaseUntil IS NULL OR m.leaseUntil < :now)))
+        """)
+    int claim(@Param("id") UUID id, @Param("claimedBy") String claimedBy,
+              @Param("leaseUntil") LocalDateTime leaseUntil, @Param("now") LocalDateTime now);
+
+    /** Records a delivered page and renews the lease; {@code 0} means the lease was lost. */
+    @Modifying
+    @Query("""
+        UPDATE EventMailing m
+        SET m.lastRegistrationId = :lastRegistrationId,
+            m.sentCount = m.sentCount + :sent, m.requestCount = m.requestCount + 1,
+            m.leaseUntil = :leaseUntil, m.updatedAt = :now
+        WHERE m.id = :id AND m.claimedBy = :claimedBy
+        """)
+    int recordPage(@Param("id") UUID id, @Param("claimedBy") String claimedBy,
+                   @Param("lastRegistrationId") UUID lastRegistrationId, @Param("sent") int sent,
+                   @Param("leaseUntil") LocalDateTime leaseUntil, @Param("now") LocalDateTime now);
+
+    /** Sets the final status and releases the lease, if still held by {@code claimedBy}. */
+    @Modifying
+    @Query("""
+        UPDATE EventMailing m
+        SET m.status = :status, m.lastError = :lastError, m.completedAt = :completedAt,
+            m.claimedBy = NULL, m.leaseUntil = NULL, m.updatedAt = :now
+        WHERE m.id = :id AND m.claimedBy = :claimedBy
+        """)
+    int finish(@Param("id") UUID id, @Param("claimedBy") String claimedBy, @Param("status") MailingStatus status,
+               @Param("lastError") String lastError, @Param("completedAt") LocalDateTime completedAt,
+               @Param("now") LocalDateTime now);
+}
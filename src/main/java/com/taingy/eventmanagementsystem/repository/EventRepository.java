@@ -1,29 +1,191 @@
 package com.taingy.eventmanagementsystem.repository;
 
+import com.taingy.eventmanagementsystem.dto.EventSummary;
+import com.taingy.eventmanagementsystem.dto.EventVersion;
+import com.taingy.eventmanagementsystem.dto.GroupCount;
 import com.taingy.eventmanagementsystem.enums.EventStatus;
 import com.taingy.eventmanagementsystem.model.Event;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface EventRepository extends JpaRepository<Event, UUID> {
-    @Query("""
-        SELECT e FROM Event e
+    /**
+     * Event list page as {@link EventSummary} rows, with category and organizer joined into the
+     * same statement. Sorting comes from {@code pageable}.
+     */
+    @Query(value = "SELECT " + EventSummary.SELECT + """
+        FROM Event e
+        LEFT JOIN e.category c
+        LEFT JOIN e.organizer o
+        WHERE
+            (:keyword IS NULL OR
+                LOWER(e.title) LIKE LOWER(CONCAT('%', :keyword, '%'))
+                OR LOWER(e.description) LIKE LOWER(CONCAT('%', :keyword, '%')))
+        AND (:status IS NULL OR e.status = :status)
+        AND (:categoryId IS NULL OR e.category.id = :categoryId)
+        """,
+        countQuery = """
+        SELECT COUNT(e) FROM Event e
         WHERE
-            (:keyword IS NULL OR 
-                LOWER(e.title) LIKE LOWER(CONCAT('%', :keyword, '%')) 
+            (:keyword IS NULL OR
+                LOWER(e.title) LIKE LOWER(CONCAT('%', :keyword, '%'))
                 OR LOWER(e.description) LIKE LOWER(CONCAT('%', :keyword, '%')))
         AND (:status IS NULL OR e.status = :status)
         AND (:categoryId IS NULL OR e.category.id = :categoryId)
         """)
-    Page<Event> getEvents(
+    Page<EventSummary> getEventSummaries(
             @Param("keyword") String keyword,
             @Param("status") EventStatus status,
             @Param("categoryId") Integer categoryId,
             Pageable pageable
     );
-}
\ No newline at end of file
+
+    /**
+     * Keyset variant of {@link #getEventSummaries}: the next {@code pageable.getPageSize()} events
+     * older than the cursor, newest first, without a count query.
+     */
+    @Query("SELECT " + EventSummary.SELECT + """
+        FROM Event e
+        LEFT JOIN e.category c
+        LEFT JOIN e.organizer o
+        WHERE
+            (:keyword IS NULL OR
+                LOWER(e.title) LIKE LOWER(CONCAT('%', :keyword, '%'))
+                OR LOWER(e.description) LIKE LOWER(CONCAT('%', :keyword, '%')))
+        AND (:status IS NULL OR e.status = :status)
+        AND (:categoryId IS NULL OR e.category.id = :categoryId)
+        AND (e.createdAt < :createdAt OR (e.createdAt = :createdAt AND e.id < :id))
+        ORDER BY e.createdAt DESC, e.id DESC
+        """)
+    List<EventSummary> getEventSummariesBefore(
+            @Param("keyword") String keyword,
+            @Param("status") EventStatus status,
+            @Param("categoryId") Integer categoryId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Pageable pageable
+    );
+
+    @Query("SELECT " + EventSummary.SELECT + """
+        FROM Event e
+        LEFT JOIN e.category c
+        LEFT JOIN e.organizer o
+        WHERE e.id IN :ids
+        """)
+    List<EventSummary> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * PostgreSQL full-text search over the generated {@code events.search_vector} column (GIN
+     * indexed), most relevant first. An empty {@code status} or a {@code categoryId} of 0 means
+     * no filter; sentinels are used instead of nulls because untyped null parameters cannot be
+     * compared in native PostgreSQL queries.
+     */
+    @Query(value = """
+        SELECT e.id FROM events e
+        WHERE e.search_vector @@ websearch_to_tsquery('english', :keyword)
+        AND (:status = '' OR e.status = :status)
+        AND (:categoryId = 0 OR e.category_id = :categoryId)
+        ORDER BY ts_rank(e.search_vector, websearch_to_tsquery('english', :keyword)) DESC,
+            e.created_at DESC, e.id DESC
+        """,
+        countQuery = """
+        SELECT COUNT(*) FROM events e
+        WHERE e.search_vector @@ websearch_to_tsquery('english', :keyword)
+        AND (:status = '' OR e.status = :status)
+        AND (:categoryId = 0 OR e.category_id = :categoryId)
+        """,
+        nativeQuery = true)
+    Page<UUID> searchEventIds(
+            @Param("keyword") String keyword,
+            @Param("status") String status,
+            @Param("categoryId") int categoryId,
+            Pageable pageable
+    );
+
+    /**
+     * Keyset variant of {@link #searchEventIds}: matching event ids older than the cursor, newest
+     * first.
+     */
+    @Query(value = """
+        SELECT e.id FROM events e
+        WHERE e.search_vector @@ websearch_to_tsquery('english', :keyword)
+        AND (:status = '' OR e.status = :status)
+        AND (:categoryId = 0 OR e.category_id = :categoryId)
+        AND (e.created_at < :createdAt OR (e.created_at = :createdAt AND e.id < :id))
+        ORDER BY e.created_at DESC, e.id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<UUID> searchEventIdsBefore(
+            @Param("keyword") String keyword,
+            @Param("status") String status,
+            @Param("categoryId") int categoryId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Takes one seat if the event still has capacity left. Returns the number of updated rows,
+     * so {@code 0} means the event is full (or does not exist).
+     */
+    @Modifying
+    @Query("""
+        UPDATE Event e SET e.registeredCount = e.registeredCount + 1
+        WHERE e.id = :eventId
+        AND (e.capacity IS NULL OR e.registeredCount < e.capacity)
+        """)
+    int incrementRegisteredCount(@Param("eventId") UUID eventId);
+
+    @Modifying
+    @Query("""
+        UPDATE Event e SET e.registeredCount = e.registeredCount - 1
+        WHERE e.id = :eventId
+        AND e.registeredCount > 0
+        """)
+    int decrementRegisteredCount(@Param("eventId") UUID eventId);
+
+    /**
+     * Seats left according to the maintained counter, or {@code null} when the event
+     * does not exist or has no capacity limit.
+     */
+    @Query("SELECT e.capacity - e.registeredCount FROM Event e WHERE e.id = :eventId")
+    Integer findRemainingSeats(@Param("eventId") UUID eventId);
+
+    /**
+     * Version data behind the event detail ETag, read without hydrating the event or its
+     * associations.
+     */
+    @Query("""
+        SELECT new com.taingy.eventmanagementsystem.dto.EventVersion(
+            e.version, e.registeredCount, o.updatedAt, c.name, c.description)
+        FROM Event e
+        LEFT JOIN e.organizer o
+        LEFT JOIN e.category c
+        WHERE e.id = :eventId
+        """)
+    Optional<EventVersion> findVersionById(@Param("eventId") UUID eventId);
+
+    /**
+     * Stored status of the event. Pending changes to a managed event are not flushed first, so
+     * this returns the status from before an in-progress update.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query("SELECT e.status FROM Event e WHERE e.id = :eventId")
+    Optional<EventStatus> findStatusById(@Param("eventId") UUID eventId);
+
+    @Query("SELECT new com.taingy.eventmanagementsystem.dto.GroupCount(e.status, COUNT(e)) FROM Event e GROUP BY e.status")
+    List<GroupCount<EventStatus>> countByStatus();
+}
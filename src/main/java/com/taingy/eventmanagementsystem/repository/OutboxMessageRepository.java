@@ -0,0 +1,34 @@
+package com.taingy.eventmanagementsystem.repository;
+
+import com.taingy.eventmanagementsystem.model.OutboxMessage;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, UUID> {
+
+    /**
+     * Oldest unprocessed messages that are due (not waiting for a retry), locked with SKIP LOCKED so
+     * several application instances can dispatch concurrently without picking up the same rows.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT m FROM OutboxMessage m
+        WHERE m.processedAt IS NULL
+        AND (m.nextAttemptAt IS NULL OR m.nextAttemptAt <= :now)
+        ORDER BY m.createdAt
+        """)
+    List<OutboxMessage> findPendingForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    void deleteByProcessedAtBefore(LocalDateTime cutoff);
+}
@@ -1,12 +1,22 @@
 package com.taingy.eventmanagementsystem.repository;
 
+import com.taingy.eventmanagementsystem.dto.GroupCount;
+import com.taingy.eventmanagementsystem.dto.RegistrationState;
+import com.taingy.eventmanagementsystem.dto.RegistrationSummary;
+import com.taingy.eventmanagementsystem.enums.RegistrationStatus;
 import com.taingy.eventmanagementsystem.model.Event;
 import com.taingy.eventmanagementsystem.model.Registration;
 import com.taingy.eventmanagementsystem.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,4 +28,168 @@ public interface RegistrationRepository extends JpaRepository<Registration, UUID
     Page<Registration> findByEvent(Event event, Pageable pageable);
     Optional<Registration> findByUserAndEvent(User user, Event event);
     long countByEvent(Event event);
+
+    /**
+     * Counts instead of selecting the id, so it only needs the columns of the
+     * (user_id, event_id, status) index and can be answered without reading the registration row.
+     */
+    @Query("""
+        SELECT CASE WHEN COUNT(*) > 0 THEN true ELSE false END FROM Registration r
+        WHERE r.user.id = :userId AND r.event.id = :eventId AND r.status <> :status
+        """)
+    boolean existsByUserIdAndEventIdAndStatusNot(@Param("userId") UUID userId, @Param("eventId") UUID eventId,
+                                                 @Param("status") RegistrationStatus status);
+
+    @Query("""
+        SELECT r.event.id FROM Registration r
+        WHERE r.user.id = :userId
+        AND r.status <> com.taingy.eventmanagementsystem.enums.RegistrationStatus.CANCELLED
+        """)
+    List<UUID> findActiveEventIdsByUserId(@Param("userId") UUID userId);
+
+    /** Which of {@code eventIds} the user is actively registered for, as ids only. */
+    @Query("""
+        SELECT r.event.id FROM Registration r
+        WHERE r.user.id = :userId AND r.event.id IN :eventIds
+        AND r.status <> com.taingy.eventmanagementsystem.enums.RegistrationStatus.CANCELLED
+        """)
+    List<UUID> findActiveEventIdsByUserIdAndEventIds(@Param("userId") UUID userId,
+                                                     @Param("eventIds") Collection<UUID> eventIds);
+
+    @Query("""
+        SELECT new com.taingy.eventmanagementsystem.dto.RegistrationState(r.event.id, r.status)
+        FROM Registration r
+        WHERE r.user.id = :userId AND r.event.id IN :eventIds
+        """)
+    List<RegistrationState> findStatesByUserIdAndEventIds(@Param("userId") UUID userId,
+                                                         @Param("eventIds") Collection<UUID> eventIds);
+
+    @EntityGraph(attributePaths = {"event", "user"})
+    List<Registration> findByIdIn(Collection<UUID> ids);
+
+    /**
+     * All registrations with everything {@code RegistrationMapper} reads (event, its category and
+     * organizer, and user) fetched in the same statement.
+     */
+    @EntityGraph(attributePaths = {"event", "event.category", "event.organizer", "user"})
+    @Query("SELECT r FROM Registration r")
+    List<Registration> findAllWithDetails();
+
+    @EntityGraph(attributePaths = {"event", "event.category", "event.organizer", "user"})
+    List<Registration> findWithDetailsByEventId(UUID eventId);
+
+    @EntityGraph(attributePaths = {"event", "event.category", "event.organizer", "user"})
+    List<Registration> findWithDetailsByUserId(UUID userId);
+
+    @EntityGraph(attributePaths = {"event", "event.category", "event.organizer", "user"})
+    Optional<Registration> findWithDetailsById(UUID id);
+
+    /**
+     * Next page of active (non-cancelled) registrants for an event, keyed on registration id
+     * so a long walk over a large event can resume from the last id seen.
+     */
+    @Query("""
+        SELECT r FROM Registration r JOIN FETCH r.user
+        WHERE r.event.id = :eventId
+        AND r.status <> com.taingy.eventmanagementsystem.enums.RegistrationStatus.CANCELLED
+        AND r.id > :afterId
+        ORDER BY r.id
+        """)
+    List<Registration> findActiveByEventAfter(@Param("eventId") UUID eventId, @Param("afterId") UUID afterId,
+                                              Pageable pageable);
+
+    @Query("""
+        SELECT COUNT(r) FROM Registration r
+        WHERE r.event.id = :eventId
+        AND r.status <> com.taingy.eventmanagementsystem.enums.RegistrationStatus.CANCELLED
+        """)
+    long countActiveByEventId(@Param("eventId") UUID eventId);
+
+    /**
+     * Next page of ids of confirmed registrations for an event that have no ticket yet, keyed on
+     * registration id like {@link #findActiveByEventAfter}.
+     */
+    @Query("""
+        SELECT r.id FROM Registration r
+        WHERE r.event.id = :eventId
+        AND r.status = com.taingy.eventmanagementsystem.enums.RegistrationStatus.CONFIRMED
+        AND r.id > :afterId
+        AND NOT EXISTS (SELECT t.id FROM Ticket t WHERE t.registration = r)
+        ORDER BY r.id
+        """)
+    List<UUID> findUnticketedConfirmedIdsByEventAfter(@Param("eventId") UUID eventId,
+                                                      @Param("afterId") UUID afterId, Pageable pageable);
+
+    @Query("""
+        SELECT COUNT(r) FROM Registration r
+        WHERE r.event.id = :eventId
+        AND r.status = com.taingy.eventmanagementsystem.enums.RegistrationStatus.CONFIRMED
+        AND NOT EXISTS (SELECT t.id FROM Ticket t WHERE t.registration = r)
+        """)
+    long countUnticketedConfirmedByEventId(@Param("eventId") UUID eventId);
+
+    /** Page of an event's registrations with their users, in one statement. */
+    @Query(value = "SELECT " + RegistrationSummary.SELECT + """
+        FROM Registration r
+        JOIN r.user u
+        WHERE r.event.id = :eventId
+        """,
+        countQuery = "SELECT COUNT(r) FROM Registration r WHERE r.event.id = :eventId")
+    Page<RegistrationSummary> findSummariesByEventId(@Param("eventId") UUID eventId, Pageable pageable);
+
+    /** Page of a user's registrations, in one statement. */
+    @Query(value = "SELECT " + RegistrationSummary.SELECT + """
+        FROM Registration r
+        JOIN r.user u
+        WHERE r.user.id = :userId
+        """,
+        countQuery = "SELECT COUNT(r) FROM Registration r WHERE r.user.id = :userId")
+    Page<RegistrationSummary> findSummariesByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    /**
+     * Keyset page of an event's registrations older than the cursor, newest first, without a
+     * count query.
+     */
+    @Query("SELECT " + RegistrationSummary.SELECT + """
+        FROM Registration r
+        JOIN r.user u
+        WHERE r.event.id = :eventId
+        AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id))
+        ORDER BY r.createdAt DESC, r.id DESC
+        """)
+    List<RegistrationSummary> findSummariesByEventIdBefore(@Param("eventId") UUID eventId,
+                                                           @Param("createdAt") LocalDateTime createdAt,
+                                                           @Param("id") UUID id,
+                                                           Pageable pageable);
+
+    /**
+     * Keyset page of a user's registrations older than the cursor, newest first, without a
+     * count query.
+     */
+    @Query("SELECT " + RegistrationSummary.SELECT + """
+        FROM Registration r
+        JOIN r.user u
+        WHERE r.user.id = :userId
+        AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id))
+        ORDER BY r.createdAt DESC, r.id DESC
+        """)
+    List<RegistrationSummary> findSummariesByUserIdBefore(@Param("userId") UUID userId,
+                                                          @Param("createdAt") LocalDateTime createdAt,
+                                                          @Param("id") UUID id,
+                                                          Pageable pageable);
+
+    @Query("""
+        SELECT new com.taingy.eventmanagementsystem.dto.GroupCount(r.status, COUNT(r))
+        FROM Registration r GROUP BY r.status
+        """)
+    List<GroupCount<RegistrationStatus>> countByStatus();
+
+    /** Registrations created per calendar day since {@code since}. */
+    @Query("""
+        SELECT new com.taingy.eventmanagementsystem.dto.GroupCount(CAST(r.createdAt AS LocalDate), COUNT(r))
+        FROM Registration r
+        WHERE r.createdAt >= :since
+        GROUP BY CAST(r.createdAt AS LocalDate)
+        """)
+    List<GroupCount<LocalDate>> countPerDaySince(@Param("since") LocalDateTime since);
 }
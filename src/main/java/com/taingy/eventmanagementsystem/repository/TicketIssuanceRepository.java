@@ -0,0 +1,64 @@
+package com.taingy.eventmanagementsystem.repository;
+
+import com.taingy.eventmanagementsystem.enums.IssuanceStatus;
+import com.taingy.eventmanagementsystem.model.TicketIssuance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TicketIssuanceRepository extends JpaRepository<TicketIssuance, UUID> {
+
+    List<TicketIssuance> findByEventIdOrderByCreatedAtDesc(UUID eventId);
+
+    List<TicketIssuance> findByStatusInOrderByCreatedAtAsc(Collection<IssuanceStatus> statuses);
+
+    /**
+     * Takes the lease on a pending run, or on an in-progress one whose lease ran out (its processor
+     * died). Returns {@code 0} when another processor holds it.
+     */
+    @Modifying
+    @Query("""
+        UPDATE TicketIssuance i
+        SET i.status = com.taingy.eventmanagementsystem.enums.IssuanceStatus.IN_PROGRESS,
+            i.claimedBy = :claimedBy, i.leaseUntil = :leaseUntil, i.updatedAt = :now
+        WHERE i.id = :id
+        AND (i.status = com.taingy.eventmanagementsystem.enums.IssuanceStatus.PENDING
+            OR (i.status = com.taingy.eventmanagementsystem.enums.IssuanceStatus.IN_PROGRESS
+                AND (i.leaseUntil IS NULL OR i.leaseUntil < :now)))
+        """)
+    int claim(@Param("id") UUID id, @Param("claimedBy") String claimedBy,
+              @Param("leaseUntil") LocalDateTime leaseUntil, @Param("now") LocalDateTime now);
+
+    /** Records an issued batch and renews the lease; {@code 0} means the lease was lost. */
+    @Modifying
+    @Query("""
+        UPDATE TicketIssuance i
+        SET i.lastRegistrationId = :lastRegistrationId,
+            i.issuedCount = i.issuedCount + :issued, i.batchCount = i.batchCount + 1,
+            i.leaseUntil = :leaseUntil, i.updatedAt = :now
+        WHERE i.id = :id AND i.claimedBy = :claimedBy
+        """)
+    int recordBatch(@Param("id") UUID id, @Param("claimedBy") String claimedBy,
+                    @Param("lastRegistrationId") UUID lastRegistrationId, @Param("issued") int issued,
+                    @Param("leaseUntil") LocalDateTime leaseUntil, @Param("now") LocalDateTime now);
+
+    /** Sets the final status and releases the lease, if still held by {@code claimedBy}. */
+    @Modifying
+    @Query("""
+        UPDATE TicketIssuance i
+        SET i.status = :status, i.lastError = :lastError, i.completedAt = :completedAt,
+            i.claimedBy = NULL, i.leaseUntil = NULL, i.updatedAt = :now
+        WHERE i.id = :id AND i.claimedBy = :claimedBy
+        """)
+    int finish(@Param("id") UUID id, @Param("claimedBy") String claimedBy, @Param("status") IssuanceStatus status,
+               @Param("lastError") String lastError, @Param("completedAt") LocalDateTime completedAt,
+               @Param("now") LocalDateTime now);
+}
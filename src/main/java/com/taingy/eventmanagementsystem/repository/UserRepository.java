@@ -20,6 +20,9 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
 
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") UUID id);
+
     @Query("SELECT u FROM User u WHERE " +
             "(:search IS NULL OR :search = '' OR " +
             "LOWER(u.username) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
@@ -29,4 +32,25 @@ public interface UserRepository extends JpaRepository<User, UUID> {
             "(:role IS NULL OR u.role = :role)")
     Page<User> findBySearchAndRole(@Param("search") String search, @Param("role") Role role, Pageable pageable);
 
+    /**
+     * PostgreSQL trigram search over the generated, lower-cased {@code users.search_name}
+     * column ({@code first_name last_name username}). The substring match is served by the
+     * {@code gin_trgm_ops} index and results are ordered by similarity to the search term.
+     * {@code pattern} is the escaped LIKE pattern for {@code term}; an empty {@code role} means
+     * any role.
+     */
+    @Query(value = """
+        SELECT u.* FROM users u
+        WHERE u.search_name LIKE :pattern
+        AND (:role = '' OR u.role = :role)
+        ORDER BY similarity(u.search_name, :term) DESC, u.username
+        """,
+        countQuery = """
+        SELECT COUNT(*) FROM users u
+        WHERE u.search_name LIKE :pattern
+        AND (:role = '' OR u.role = :role)
+        """,
+        nativeQuery = true)
+    Page<User> searchByTrigram(@Param("term") String term, @Param("pattern") String pattern,
+                               @Param("role") String role, Pageable pageable);
 }
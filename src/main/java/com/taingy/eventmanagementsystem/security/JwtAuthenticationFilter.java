@@ -1,24 +1,39 @@
 package com.taingy.eventmanagementsystem.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.*;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationCache tokenRevocationCache;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, CustomUserDetailsService userDetailsService) {
+    /**
+     * When enabled, tokens carrying user id, role and token version are trusted without loading
+     * the user; only the cached token version is checked. Older tokens still load the user.
+     */
+    @Value("${app.jwt.stateless-auth:true}")
+    private boolean statelessAuth = true;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, CustomUserDetailsService userDetailsService,
+                                   TokenRevocationCache tokenRevocationCache) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.tokenRevocationCache = tokenRevocationCache;
     }
 
     @Override
@@ -34,13 +49,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         final String token = header.substring(7);
-        if (!jwtUtil.validateToken(token)) {
+        Optional<Claims> claims = jwtUtil.parseClaims(token);
+        if (claims.isEmpty()) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        String username = jwtUtil.getUsername(token);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        UserDetails userDetails;
+        if (statelessAuth && hasStatelessClaims(claims.get())) {
+            if (!tokenRevocationCache.isCurrent(jwtUtil.getUserId(claims.get()), jwtUtil.getTokenVersion(claims.get()))) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            userDetails = new org.springframework.security.core.userdetails.User(
+                    claims.get().getSubject(), "",
+                    List.of(new SimpleGrantedAuthority("ROLE_" + jwtUtil.getRole(claims.get()))));
+        } else {
+            userDetails = userDetailsService.loadUserByUsername(claims.get().getSubject());
+        }
 
         UsernamePasswordAuthenticationToken auth =
                 new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
@@ -48,5 +74,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         SecurityContextHolder.getContext().setAuthentication(auth);
         filterChain.doFilter(request, response);
     }
-}
 
+    private boolean hasStatelessClaims(Claims claims) {
+        return claims.getSubject() != null
+                && jwtUtil.getRole(claims) != null
+                && jwtUtil.getUserId(claims) != null
+                && jwtUtil.getTokenVersion(claims) != null;
+    }
+}
@@ -1,80 +1,129 @@
 package com.taingy.eventmanagementsystem.security;
 
+import com.taingy.eventmanagementsystem.model.User;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 @Slf4j
 @Component
 public class JwtUtil {
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
     private final String TAG = JwtUtil.class.getSimpleName();
     @Value("${app.jwt.secret}")
     private String SECRET_KEY;
     @Value("${app.jwt.expiration-ms}")
     private long expirationMs;
 
+    // Built once; both are immutable and safe to share across request threads
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
     public String generateToken(String username, String role) {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + expirationMs);
         return Jwts.builder()
                 .setSubject(username)
-                .claim("role", role)
+                .claim(CLAIM_ROLE, role)
                 .setIssuedAt(now)
                 .setExpiration(expiration)
-                .signWith(Keys.hmacShaKeyFor(SECRET_KEY.getBytes()), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * Token carrying the user id and token version next to the role, so requests can be
+     * authenticated from the claims alone.
+     */
+    public String generateToken(User user) {
+        Date now = new Date();
+        Date expiration = new Date(now.getTime() + expirationMs);
+        return Jwts.builder()
+                .setSubject(user.getUsername())
+                .claim(CLAIM_ROLE, user.getRole().name())
+                .claim(CLAIM_USER_ID, user.getId().toString())
+                .claim(CLAIM_TOKEN_VERSION, user.getTokenVersion())
+                .setIssuedAt(now)
+                .setExpiration(expiration)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    /**
+     * Verifies the token once and returns its claims, or empty when the signature is invalid,
+     * the token is malformed or it has expired. Callers should read everything they need from
+     * the returned claims rather than parsing the token again.
+     */
+    public Optional<Claims> parseClaims(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(Keys.hmacShaKeyFor(SECRET_KEY.getBytes()))
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (JwtException e) {
-            log.info(TAG, e.getMessage());
-            return false;
+            return Optional.of(parser.parseClaimsJws(token).getBody());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.info("{}: {}", TAG, e.getMessage());
+            return Optional.empty();
         }
     }
 
+    public boolean validateToken(String token) {
+        return parseClaims(token).isPresent();
+    }
+
     public String getUsername(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(SECRET_KEY.getBytes()))
-                .build()
-                .parseClaimsJws(token)
+        return parser.parseClaimsJws(token)
                 .getBody()
                 .getSubject();
     }
 
     public String getRole(String token) {
-        Object r = Jwts.parserBuilder()
-                    .setSigningKey(Keys.hmacShaKeyFor(SECRET_KEY.getBytes()))
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .get("role");
+        return getRole(parser.parseClaimsJws(token).getBody());
+    }
 
+    public String getRole(Claims claims) {
+        Object r = claims.get(CLAIM_ROLE);
         return r != null ? r.toString() : null;
     }
 
-    public boolean isTokenValid(String token, String username) {
-        return username.equals(getUsername(token)) && !isTokenExpired(token);
+    /** User id claim, or {@code null} for tokens issued before it was added. */
+    public UUID getUserId(Claims claims) {
+        Object id = claims.get(CLAIM_USER_ID);
+        try {
+            return id != null ? UUID.fromString(id.toString()) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
 
-    private boolean isTokenExpired(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(SECRET_KEY.getBytes()))
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getExpiration()
-                .before(new Date());
+    /** Token version claim, or {@code null} for tokens issued before it was added. */
+    public Integer getTokenVersion(Claims claims) {
+        Object version = claims.get(CLAIM_TOKEN_VERSION);
+        return version instanceof Number number ? number.intValue() : null;
+    }
+
+    public boolean isTokenValid(String token, String username) {
+        return parseClaims(token)
+                .map(claims -> username.equals(claims.getSubject()))
+                .orElse(false);
     }
 }
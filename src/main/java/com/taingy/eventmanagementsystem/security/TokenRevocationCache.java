@@ -0,0 +1,86 @@
+package com.taingy.eventmanagementsystem.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taingy.eventmanagementsystem.model.User;
+import com.taingy.eventmanagementsystem.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Short-lived cache of each user's current token version, used by stateless JWT authentication to
+ * detect revoked tokens without a users lookup on every request. Bounded and TTL-based; metrics
+ * are published as {@code cache.*} meters tagged {@code cache=tokenRevocation}.
+ *
+ * Changes made on this instance call {@link #invalidate(UUID)} and take effect immediately; changes
+ * made elsewhere are picked up once the cached entry expires.
+ */
+@Component
+public class TokenRevocationCache {
+
+    /** Cached version for users that no longer exist; never matches a real token. */
+    private static final int DELETED = -1;
+
+    private final UserRepository userRepository;
+    private final UserIdentityCache userIdentityCache;
+    private final Cache<UUID, Integer> tokenVersions;
+
+    public TokenRevocationCache(UserRepository userRepository, UserIdentityCache userIdentityCache,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.jwt.revocation-cache-max-size:10000}") long maxSize,
+                                @Value("${app.jwt.revocation-cache-ttl-ms:30000}") long ttlMs) {
+        this.userRepository = userRepository;
+        this.userIdentityCache = userIdentityCache;
+        this.tokenVersions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tokenVersions, "tokenRevocation");
+    }
+
+    /**
+     * Whether a token issued with {@code tokenVersion} is still valid for the user.
+     */
+    public boolean isCurrent(UUID userId, int tokenVersion) {
+        int current = tokenVersions.get(userId, id -> userRepository.findTokenVersionById(id).orElse(DELETED));
+        return current == tokenVersion;
+    }
+
+    /**
+     * Revokes every token issued to the user so far by bumping their token version, and drops the
+     * cached version and identity so the change applies at once on this instance. The caller saves
+     * the user in its transaction.
+     */
+    public void revokeTokens(User user) {
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        invalidate(user.getId());
+        userIdentityCache.invalidate(user.getUsername());
+    }
+
+    /**
+     * Drops the cached version for a user. Inside a transaction it is dropped again after commit,
+     * so a request racing the change cannot re-cache the old version.
+     */
+    public void invalidate(UUID userId) {
+        if (userId == null) {
+            return;
+        }
+        tokenVersions.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    tokenVersions.invalidate(userId);
+                }
+            });
+        }
+    }
+}
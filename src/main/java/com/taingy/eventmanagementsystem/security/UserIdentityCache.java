@@ -0,0 +1,97 @@
+package com.taingy.eventmanagementsystem.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taingy.eventmanagementsystem.model.User;
+import com.taingy.eventmanagementsystem.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Bounded, TTL-based cache of users by username, shared by request authentication and the services
+ * that resolve the current caller. Hit/miss/eviction metrics are published as {@code cache.*} meters
+ * tagged {@code cache=userIdentity}.
+ *
+ * Callers get a copy, so changing a returned user never leaks into the cache. Lookups inside a
+ * transaction bypass the cache, since they may see rows that are never committed. Entries are
+ * dropped when a user is updated, deleted or changes password; changes made on other instances
+ * are visible once the entry expires.
+ */
+@Component
+public class UserIdentityCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, User> cache;
+
+    public UserIdentityCache(UserRepository userRepository, MeterRegistry meterRegistry,
+                             @Value("${app.user-cache.max-size:10000}") long maxSize,
+                             @Value("${app.user-cache.ttl-ms:60000}") long ttlMs) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userIdentity");
+    }
+
+    public Optional<User> getByUsername(String username) {
+        if (username == null) {
+            return Optional.empty();
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return userRepository.findByUsername(username);
+        }
+        User cached = cache.get(username, key -> userRepository.findByUsername(key).orElse(null));
+        return Optional.ofNullable(cached).map(UserIdentityCache::copyOf);
+    }
+
+    public void invalidate(String username) {
+        if (username != null) {
+            evictNowAndAfterCompletion(() -> cache.invalidate(username));
+        }
+    }
+
+    public void invalidate(UUID userId) {
+        if (userId != null) {
+            evictNowAndAfterCompletion(() -> cache.asMap().values().removeIf(user -> userId.equals(user.getId())));
+        }
+    }
+
+    private void evictNowAndAfterCompletion(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private static User copyOf(User user) {
+        User copy = new User();
+        copy.setId(user.getId());
+        copy.setUsername(user.getUsername());
+        copy.setEmail(user.getEmail());
+        copy.setFirstName(user.getFirstName());
+        copy.setLastName(user.getLastName());
+        copy.setRole(user.getRole());
+        copy.setPasswordHash(user.getPasswordHash());
+        copy.setEmailVerified(user.isEmailVerified());
+        copy.setEmailVerifiedAt(user.getEmailVerifiedAt());
+        copy.setTokenVersion(user.getTokenVersion());
+        copy.setCreatedAt(user.getCreatedAt());
+        copy.setUpdatedAt(user.getUpdatedAt());
+        return copy;
+    }
+}
@@ -0,0 +1,182 @@
+package com.taingy.eventmanagementsystem.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taingy.eventmanagementsystem.enums.ExportFormat;
+import com.taingy.eventmanagementsystem.exception.ResourceNotFoundException;
+import com.taingy.eventmanagementsystem.exception.TooManyRequestsException;
+import com.taingy.eventmanagementsystem.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Writes an event's attendee list straight from a forward-only JDBC cursor to the response, one
+ * row at a time. Nothing is collected into a list and no entities are created, so memory use does
+ * not depend on the number of attendees.
+ *
+ * Each running export holds a pooled connection for the whole download, so at most
+ * {@code app.export.max-concurrent} run at once; further requests are turned away with 429 instead
+ * of queueing for connections the rest of the application needs.
+ */
+@Service
+public class AttendeeExportService {
+
+    private static final String[] COLUMNS = {
+            "registration_id", "status", "note", "registered_at",
+            "user_id", "username", "email", "first_name", "last_name"
+    };
+
+    private static final String ATTENDEES_SQL = """
+            SELECT r.id AS registration_id, r.status, r.note, r.created_at AS registered_at,
+                u.id AS user_id, u.username, u.email, u.first_name, u.last_name
+            FROM registrations r
+            JOIN users u ON u.id = r.user_id
+            WHERE r.event_id = ?
+            ORDER BY r.created_at, r.id
+            """;
+
+    private final EventRepository eventRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Semaphore exportSlots;
+
+    public AttendeeExportService(EventRepository eventRepository, DataSource dataSource,
+                                 PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                                 @Value("${app.export.fetch-size:500}") int fetchSize,
+                                 @Value("${app.export.max-concurrent:2}") int maxConcurrentExports) {
+        this.eventRepository = eventRepository;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        // PostgreSQL only honours the fetch size (instead of buffering the whole result) inside a transaction
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.exportSlots = new Semaphore(maxConcurrentExports);
+    }
+
+    /**
+     * Fails fast for an unknown event. Call before streaming starts, once the response is committed
+     * an error can no longer change its status.
+     */
+    public void requireEvent(UUID eventId) {
+        if (!eventRepository.existsById(eventId)) {
+            throw new ResourceNotFoundException("Event", "id", eventId);
+        }
+    }
+
+    /**
+     * Takes one of the export slots, or fails with 429 when all are in use. Call before streaming
+     * starts; {@link #writeAttendees} gives the slot back when it finishes.
+     */
+    public void reserveExport() {
+        if (!exportSlots.tryAcquire()) {
+            throw new TooManyRequestsException("Too many attendee exports are running, try again shortly");
+        }
+    }
+
+    /**
+     * Writes every registration of the event, oldest first, to {@code out} in {@code format}, and
+     * releases the slot taken by {@link #reserveExport()}.
+     */
+    public void writeAttendees(UUID eventId, ExportFormat format, OutputStream out) throws IOException {
+        try {
+            streamAttendees(eventId, format, out);
+        } finally {
+            exportSlots.release();
+        }
+    }
+
+    private void streamAttendees(UUID eventId, ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writeCsvRow(writer, COLUMNS);
+        }
+        RowCallbackHandler writeRow = rs -> {
+            try {
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, values(rs));
+                } else {
+                    writeJsonRow(writer, values(rs));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(ATTENDEES_SQL, writeRow, eventId));
+        } catch (UncheckedIOException e) {
+            // Usually the client went away; surface it as the IOException it is
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private static String[] values(ResultSet rs) throws SQLException {
+        Timestamp registeredAt = rs.getTimestamp("registered_at");
+        return new String[] {
+                rs.getString("registration_id"),
+                rs.getString("status"),
+                rs.getString("note"),
+                registeredAt != null ? registeredAt.toLocalDateTime().toString() : null,
+                rs.getString("user_id"),
+                rs.getString("username"),
+                rs.getString("email"),
+                rs.getString("first_name"),
+                rs.getString("last_name")
+        };
+    }
+
+    private void writeJsonRow(Writer writer, String[] values) throws IOException {
+        Map<String, String> row = new LinkedHashMap<>();
+        for (int i = 0; i < COLUMNS.length; i++) {
+            row.put(COLUMNS[i], values[i]);
+        }
+        writer.write(objectMapper.writeValueAsString(row));
+        writer.write('\n');
+    }
+
+    private static void writeCsvRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180: quote fields containing separators, quotes or line breaks and double embedded quotes.
+    // A value a spreadsheet would run as a formula is prefixed with ' so it is shown as text.
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            return "\"'" + value.replace("\"", "\"\"") + '"';
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
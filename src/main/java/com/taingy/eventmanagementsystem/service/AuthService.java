@@ -10,6 +10,8 @@ import com.taingy.eventmanagementsystem.mapper.UserMapper;
 import com.taingy.eventmanagementsystem.model.User;
 import com.taingy.eventmanagementsystem.repository.UserRepository;
 import com.taingy.eventmanagementsystem.security.JwtUtil;
+import com.taingy.eventmanagementsystem.security.TokenRevocationCache;
+import com.taingy.eventmanagementsystem.security.UserIdentityCache;
 import com.taingy.eventmanagementsystem.util.AuthUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -28,11 +30,15 @@ public class AuthService {
     private final OtpService otpService;
     private final EmailService emailService;
     private final SendGridEmailService sendGridEmailService;
+    private final TokenRevocationCache tokenRevocationCache;
+    private final UserIdentityCache userIdentityCache;
+    private final SummaryService summaryService;
 
     @Autowired
     public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtUtil jwtUtil,
                       UserMapper userMapper, OtpService otpService, EmailService emailService,
-                      SendGridEmailService sendGridEmailService) {
+                      SendGridEmailService sendGridEmailService, TokenRevocationCache tokenRevocationCache,
+                      UserIdentityCache userIdentityCache, SummaryService summaryService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtil = jwtUtil;
@@ -40,6 +46,9 @@ public class AuthService {
         this.otpService = otpService;
         this.emailService = emailService;
         this.sendGridEmailService = sendGridEmailService;
+        this.tokenRevocationCache = tokenRevocationCache;
+        this.userIdentityCache = userIdentityCache;
+        this.summaryService = summaryService;
     }
 
     @Transactional
@@ -62,6 +71,7 @@ public class AuthService {
         user.setPasswordHash(passwordEncoder.encode(request.password()));
         user.setEmailVerified(false);
         userRepository.save(user);
+        summaryService.recordUsers(1);
 
         // Generate and send OTP
         String otpCode = otpService.generateOtp(request.email());
@@ -94,9 +104,10 @@ public class AuthService {
         user.setEmailVerified(true);
         user.setEmailVerifiedAt(LocalDateTime.now());
         userRepository.save(user);
+        userIdentityCache.invalidate(user.getUsername());
 
         // Generate token and return
-        String token = jwtUtil.generateToken(user.getUsername(), user.getRole().name());
+        String token = jwtUtil.generateToken(user);
         return new AuthRequests.AuthResponse(token, userMapper.toResponseDTO(user));
     }
 
@@ -140,14 +151,15 @@ public class AuthService {
             throw new CustomAuthException("Please verify your email before logging in. Check your email for the verification code.");
         }
 
-        String token = jwtUtil.generateToken(user.getUsername(), user.getRole().name());
+        String token = jwtUtil.generateToken(user);
         return new AuthRequests.AuthResponse(token, userMapper.toResponseDTO(user));
     }
 
     public User getUserByUsername(String username) {
-        return userRepository.findByUsername(username).orElse(null);
+        return userIdentityCache.getByUsername(username).orElse(null);
     }
 
+    @Transactional
     public void changePassword(AuthRequests.ChangePasswordRequest request) {
         String username = AuthUtil.getCurrentUsername();
         if (username == null) {
@@ -174,6 +186,7 @@ public class AuthService {
         }
 
         user.setPasswordHash(passwordEncoder.encode(request.newPassword()));
+        tokenRevocationCache.revokeTokens(user);
         userRepository.save(user);
     }
 
@@ -218,6 +231,7 @@ public class AuthService {
 
         // Update password
         user.setPasswordHash(passwordEncoder.encode(request.newPassword()));
+        tokenRevocationCache.revokeTokens(user);
         userRepository.save(user);
 
         return new AuthRequests.RegisterResponse(
@@ -1,29 +1,88 @@
 package com.taingy.eventmanagementsystem.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taingy.eventmanagementsystem.dto.CategoryResponseDTO;
+import com.taingy.eventmanagementsystem.mapper.CategoryMapper;
 import com.taingy.eventmanagementsystem.model.Category;
 import com.taingy.eventmanagementsystem.repository.CategoryRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryMapper categoryMapper;
+    private final ObjectMapper objectMapper;
+    private final SummaryService summaryService;
 
-    public CategoryService(CategoryRepository categoryRepository) {
+    private final long ttlNanos;
+
+    // Current catalog, or null when a write on this instance has made it stale. The generation is
+    // bumped on every write so a rebuild that raced with a write is never left installed. Writes
+    // made by other instances or straight in the database are picked up once the TTL expires.
+    private final AtomicReference<CachedCatalog> catalog = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public CategoryService(CategoryRepository categoryRepository, CategoryMapper categoryMapper, ObjectMapper objectMapper,
+                           SummaryService summaryService,
+                           @Value("${app.categories.catalog-ttl-ms:60000}") long catalogTtlMs) {
         this.categoryRepository = categoryRepository;
+        this.categoryMapper = categoryMapper;
+        this.objectMapper = objectMapper;
+        this.summaryService = summaryService;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(catalogTtlMs);
+    }
+
+    /**
+     * Immutable view of all categories with the {@code GET /api/categories} body already
+     * serialized and a strong ETag derived from it.
+     */
+    public record Catalog(List<CategoryResponseDTO> categories, byte[] body, String etag) {
     }
 
     public Category saveCategory(Category category) {
-        return categoryRepository.save(category);
+        boolean created = category.getId() == null;
+        Category saved = categoryRepository.save(category);
+        if (created) {
+            summaryService.recordCategories(1);
+        }
+        refreshCatalogAfterCommit();
+        return saved;
     }
 
     public List<Category> getAllCategories() {
         return categoryRepository.findAll();
     }
 
+    /**
+     * Returns the category catalog, building it from the database on first use, after a category
+     * has been created, updated or deleted, and once the cached copy is older than the TTL.
+     */
+    public Catalog getCatalog() {
+        CachedCatalog current = catalog.get();
+        if (current != null && System.nanoTime() - current.builtAt() < ttlNanos) {
+            return current.catalog();
+        }
+        long observed = generation.get();
+        CachedCatalog built = new CachedCatalog(buildCatalog(), System.nanoTime());
+        if (catalog.compareAndSet(current, built) && generation.get() != observed) {
+            catalog.compareAndSet(built, null);
+        }
+        return built.catalog();
+    }
+
     public Optional<Category> getCategoryById(Integer id) {
         return categoryRepository.findById(id);
     }
@@ -34,5 +93,44 @@ public class CategoryService {
 
     public void deleteCategory(Integer id) {
         categoryRepository.deleteById(id);
+        summaryService.recordCategories(-1);
+        refreshCatalogAfterCommit();
+    }
+
+    private void refreshCatalogAfterCommit() {
+        invalidateCatalog();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidateCatalog();
+                    if (status == STATUS_COMMITTED) {
+                        getCatalog();
+                    }
+                }
+            });
+        } else {
+            getCatalog();
+        }
+    }
+
+    private void invalidateCatalog() {
+        generation.incrementAndGet();
+        catalog.set(null);
+    }
+
+    private Catalog buildCatalog() {
+        List<CategoryResponseDTO> categories = categoryRepository.findAll().stream()
+                .map(categoryMapper::toResponseDTO)
+                .toList();
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(Map.of("categories", categories));
+            return new Catalog(categories, body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize category catalog", e);
+        }
+    }
+
+    private record CachedCatalog(Catalog catalog, long builtAt) {
     }
 }
@@ -0,0 +1,119 @@
+package com.taingy.eventmanagementsystem.service;
+
+import com.taingy.eventmanagementsystem.enums.CheckInResult;
+import com.taingy.eventmanagementsystem.enums.TicketStatus;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Fixed-size open-addressing hash index over the QR codes of one event's tickets. A QR code
+ * ({@code QR-<uuid>}) is stored as the two longs of its UUID plus a state slot, about 24 bytes per
+ * ticket and no objects per entry.
+ *
+ * Entries are added with {@link #put} while the index is built on a single thread, before it is
+ * published. After that the keys never change and only the states move, by compare-and-set, so
+ * scans need no locking and a ticket can only be admitted once.
+ */
+class CheckInIndex {
+
+    private static final int FREE = 0;
+    private static final int VALID = 1;
+    private static final int USED = 2;
+    private static final int REVOKED = 3;
+
+    private final long[] mostSignificant;
+    private final long[] leastSignificant;
+    private final AtomicIntegerArray states;
+    private final int mask;
+    private int size;
+
+    CheckInIndex(int expectedTickets) {
+        // At most half full, so probe sequences stay short
+        int capacity = Integer.highestOneBit(Math.max(16, expectedTickets * 2 - 1)) << 1;
+        this.mostSignificant = new long[capacity];
+        this.leastSignificant = new long[capacity];
+        this.states = new AtomicIntegerArray(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Adds a ticket while building; statuses other than VALID and USED are stored as not valid.
+     * Returns {@code false} when the index is full and the ticket was not added.
+     */
+    boolean put(UUID key, TicketStatus status) {
+        int slot = slot(key);
+        while (states.get(slot) != FREE) {
+            if (matches(slot, key)) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (states.get(slot) == FREE) {
+            // Sized for half full; tickets issued while loading may push it up to three quarters
+            if (size >= states.length() - states.length() / 4) {
+                return false;
+            }
+            size++;
+        }
+        mostSignificant[slot] = key.getMostSignificantBits();
+        leastSignificant[slot] = key.getLeastSignificantBits();
+        states.set(slot, switch (status) {
+            case VALID -> VALID;
+            case USED -> USED;
+            default -> REVOKED;
+        });
+        return true;
+    }
+
+    /** Marks the ticket used if it is valid. Repeated scans of an admitted ticket are reported, not admitted. */
+    CheckInResult admit(UUID key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return CheckInResult.NOT_FOUND;
+        }
+        if (states.compareAndSet(slot, VALID, USED)) {
+            return CheckInResult.ADMITTED;
+        }
+        return states.get(slot) == USED ? CheckInResult.ALREADY_CHECKED_IN : CheckInResult.NOT_VALID;
+    }
+
+    /** Stops a not yet used ticket from being admitted; returns whether the ticket is indexed. */
+    boolean revoke(UUID key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return false;
+        }
+        states.compareAndSet(slot, VALID, REVOKED);
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int find(UUID key) {
+        int slot = slot(key);
+        while (states.get(slot) != FREE) {
+            if (matches(slot, key)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private boolean matches(int slot, UUID key) {
+        return mostSignificant[slot] == key.getMostSignificantBits()
+                && leastSignificant[slot] == key.getLeastSignificantBits();
+    }
+
+    private int slot(UUID key) {
+        // Random UUIDs are already well mixed; fold both halves so neither is ignored
+        long hash = key.getMostSignificantBits() ^ key.getLeastSignificantBits();
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+}
@@ -0,0 +1,311 @@
+package com.taingy.eventmanagementsystem.service;
+
+import com.taingy.eventmanagementsystem.dto.CheckInStatus;
+import com.taingy.eventmanagementsystem.enums.CheckInResult;
+import com.taingy.eventmanagementsystem.enums.TicketStatus;
+import com.taingy.eventmanagementsystem.exception.BadRequestException;
+import com.taingy.eventmanagementsystem.exception.ResourceNotFoundException;
+import com.taingy.eventmanagementsystem.repository.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Door check-in for events.
+ *
+ * Opening check-in loads the QR codes and statuses of the event's tickets into a {@link CheckInIndex},
+ * after which scans are validated and marked used in memory. Admitted tickets are queued and
+ * {@link #flushCheckIns()} writes them to {@code tickets} as USED in JDBC batches. A QR code missing
+ * from the index (a ticket issued after opening, or one that did not fit the index because tickets
+ * were issued while it was loading) is checked against the database instead.
+ *
+ * Closing waits for scans that are admitting a ticket, then saves the remaining check-ins; scans
+ * that arrive after that are rejected, so no admitted ticket misses the final flush.
+ *
+ * The index lives on the node that opened it, so door devices for an event should reach the same
+ * node. The flush only moves VALID tickets to USED; a ticket that was already used or invalidated
+ * in the database is logged and left alone.
+ */
+@Service
+public class CheckInService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CheckInService.class);
+
+    private static final String QR_PREFIX = "QR-";
+    private static final int LOAD_FETCH_SIZE = 1000;
+
+    private static final String COUNT_TICKETS_SQL = """
+            SELECT COUNT(*) FROM tickets t
+            JOIN registrations r ON r.id = t.registration_id
+            WHERE r.event_id = ?
+            """;
+
+    private static final String TICKETS_SQL = """
+            SELECT t.qr_code, t.status FROM tickets t
+            JOIN registrations r ON r.id = t.registration_id
+            WHERE r.event_id = ?
+            """;
+
+    private static final String TICKET_STATUS_SQL = """
+            SELECT t.status FROM tickets t
+            JOIN registrations r ON r.id = t.registration_id
+            WHERE r.event_id = ? AND t.qr_code = ?
+            """;
+
+    private static final String MARK_USED_SQL = """
+            UPDATE tickets SET status = 'USED', updated_at = ?
+            WHERE qr_code = ? AND status = 'VALID'
+            """;
+
+    private final EventRepository eventRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<UUID, Session> sessions = new ConcurrentHashMap<>();
+
+    @Value("${app.checkin.flush-batch-size:500}")
+    private int flushBatchSize = 500;
+
+    public CheckInService(EventRepository eventRepository, DataSource dataSource,
+                          PlatformTransactionManager transactionManager) {
+        this.eventRepository = eventRepository;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(LOAD_FETCH_SIZE);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /** Opens check-in for the event, or returns the already open one. */
+    public CheckInStatus open(UUID eventId) {
+        Session session = sessions.get(eventId);
+        if (session == null) {
+            if (!eventRepository.existsById(eventId)) {
+                throw new ResourceNotFoundException("Event", "id", eventId);
+            }
+            Session loaded = load(eventId);
+            session = sessions.putIfAbsent(eventId, loaded);
+            if (session == null) {
+                session = loaded;
+                logger.info("Check-in opened for event {} with {} ticket(s)", eventId, loaded.index.size());
+            }
+        }
+        return session.status();
+    }
+
+    public CheckInStatus getStatus(UUID eventId) {
+        return requireSession(eventId).status();
+    }
+
+    /** Validates a scanned QR code and admits the ticket if it is valid and not yet used. */
+    public CheckInResult scan(UUID eventId, String qrCode) {
+        Session session = requireSession(eventId);
+        UUID key = parseQrCode(qrCode);
+        if (key == null) {
+            return CheckInResult.NOT_FOUND;
+        }
+
+        CheckInResult result = session.admit(key);
+        if (result == CheckInResult.NOT_FOUND) {
+            return scanFromDatabase(session, key);
+        }
+        return result;
+    }
+
+    /** Flushes outstanding check-ins and drops the event's index; returns the final counts. */
+    public CheckInStatus close(UUID eventId) {
+        Session session = sessions.remove(eventId);
+        if (session == null) {
+            throw new BadRequestException("Check-in is not open for this event");
+        }
+        session.close();
+        flush(session);
+        if (!session.pending.isEmpty()) {
+            // A failed flush put them back; keep the session so they are saved on a later run
+            sessions.putIfAbsent(eventId, session);
+            throw new IllegalStateException("Could not save all check-ins for event " + eventId + ", try again");
+        }
+        logger.info("Check-in closed for event {}: {} ticket(s) checked in", eventId, session.checkedIn.get());
+        return session.status();
+    }
+
+    /** Keeps an open index in line with a ticket invalidated through the API. */
+    public void revoke(String qrCode) {
+        UUID key = parseQrCode(qrCode);
+        if (key != null) {
+            sessions.values().forEach(session -> session.index.revoke(key));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.checkin.flush-interval-ms:1000}",
+               initialDelayString = "${app.checkin.flush-interval-ms:1000}")
+    public void flushCheckIns() {
+        sessions.values().forEach(this::flush);
+    }
+
+    private void flush(Session session) {
+        while (!session.pending.isEmpty()) {
+            List<UUID> batch = new ArrayList<>(flushBatchSize);
+            UUID key;
+            while (batch.size() < flushBatchSize && (key = session.pending.poll()) != null) {
+                batch.add(key);
+            }
+
+            try {
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                int[][] counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(MARK_USED_SQL, batch,
+                        batch.size(), (ps, batchKey) -> {
+                            ps.setTimestamp(1, now);
+                            ps.setString(2, QR_PREFIX + batchKey);
+                        }));
+                warnAboutSkipped(session.eventId, batch, counts);
+            } catch (RuntimeException e) {
+                logger.error("Could not save {} check-in(s) for event {}, will retry", batch.size(), session.eventId, e);
+                session.pending.addAll(batch);
+                return;
+            }
+        }
+    }
+
+    private void warnAboutSkipped(UUID eventId, List<UUID> batch, int[][] counts) {
+        int index = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                if (count == 0) {
+                    logger.warn("Ticket {}{} of event {} was admitted but is no longer VALID in the database",
+                            QR_PREFIX, batch.get(index), eventId);
+                }
+                index++;
+            }
+        }
+    }
+
+    private CheckInResult scanFromDatabase(Session session, UUID key) {
+        String qrCode = QR_PREFIX + key;
+        List<String> statuses = jdbcTemplate.queryForList(TICKET_STATUS_SQL, String.class, session.eventId, qrCode);
+        if (statuses.isEmpty()) {
+            return CheckInResult.NOT_FOUND;
+        }
+        TicketStatus status = TicketStatus.valueOf(statuses.get(0));
+        if (status == TicketStatus.USED) {
+            return CheckInResult.ALREADY_CHECKED_IN;
+        }
+        if (status != TicketStatus.VALID) {
+            return CheckInResult.NOT_VALID;
+        }
+        int updated = jdbcTemplate.update(MARK_USED_SQL, Timestamp.valueOf(LocalDateTime.now()), qrCode);
+        if (updated == 0) {
+            return CheckInResult.ALREADY_CHECKED_IN;
+        }
+        session.checkedIn.incrementAndGet();
+        return CheckInResult.ADMITTED;
+    }
+
+    private Session load(UUID eventId) {
+        Integer count = jdbcTemplate.queryForObject(COUNT_TICKETS_SQL, Integer.class, eventId);
+        CheckInIndex index = new CheckInIndex(count != null ? count : 0);
+        int[] used = {0};
+        int[] skipped = {0};
+        // PostgreSQL only streams with the fetch size inside a transaction
+        transactionTemplate.executeWithoutResult(tx -> jdbcTemplate.query(TICKETS_SQL, rs -> {
+            UUID key = parseQrCode(rs.getString(1));
+            if (key != null) {
+                TicketStatus status = TicketStatus.valueOf(rs.getString(2));
+                if (!index.put(key, status)) {
+                    // Issued after the count; scans of it go to the database
+                    skipped[0]++;
+                } else if (status == TicketStatus.USED) {
+                    used[0]++;
+                }
+            }
+        }, eventId));
+        if (skipped[0] > 0) {
+            logger.warn("Check-in index for event {} is full, {} ticket(s) will be checked against the database",
+                    eventId, skipped[0]);
+        }
+        return new Session(eventId, index, used[0]);
+    }
+
+    private Session requireSession(UUID eventId) {
+        Session session = sessions.get(eventId);
+        if (session == null) {
+            throw new BadRequestException("Check-in is not open for this event");
+        }
+        return session;
+    }
+
+    private static UUID parseQrCode(String qrCode) {
+        if (qrCode == null || !qrCode.regionMatches(true, 0, QR_PREFIX, 0, QR_PREFIX.length())) {
+            return null;
+        }
+        try {
+            return UUID.fromString(qrCode.substring(QR_PREFIX.length()).trim());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static final class Session {
+        private final UUID eventId;
+        private final CheckInIndex index;
+        private final Queue<UUID> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger checkedIn;
+        private final LocalDateTime openedAt = LocalDateTime.now();
+        // Scans admit under the read lock; close takes the write lock, so it waits for them
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private boolean closed;
+
+        private Session(UUID eventId, CheckInIndex index, int checkedIn) {
+            this.eventId = eventId;
+            this.index = index;
+            this.checkedIn = new AtomicInteger(checkedIn);
+        }
+
+        private CheckInResult admit(UUID key) {
+            lock.readLock().lock();
+            try {
+                if (closed) {
+                    throw new BadRequestException("Check-in is not open for this event");
+                }
+                CheckInResult result = index.admit(key);
+                if (result == CheckInResult.ADMITTED) {
+                    pending.add(key);
+                    checkedIn.incrementAndGet();
+                }
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /** Rejects further scans; returns once every in-flight admission is queued for the flush. */
+        private void close() {
+            lock.writeLock().lock();
+            try {
+                closed = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private CheckInStatus status() {
+            return new CheckInStatus(eventId, index.size(), checkedIn.get(), pending.size(), openedAt);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.taingy.eventmanagementsystem.service;
+
+import com.taingy.eventmanagementsystem.model.Event;
+import com.taingy.eventmanagementsystem.model.Registration;
+import com.taingy.eventmanagementsystem.model.User;
+import com.taingy.eventmanagementsystem.util.EmailTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * HTML bodies for all outgoing emails, shared by {@link EmailService} and {@link SendGridEmailService}.
+ * Templates live under {@code email-templates/} and are compiled once at startup.
+ */
+@Component
+public class EmailTemplateRenderer {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MMMM dd, yyyy");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("hh:mm a");
+
+    private final EmailTemplate registrationConfirmation;
+    private final EmailTemplate registrationCancellation;
+    private final EmailTemplate emailVerificationOtp;
+    private final EmailTemplate passwordResetOtp;
+    private final EmailTemplate eventMailing;
+
+    public EmailTemplateRenderer(@Value("${app.name:Event Management System}") String appName) {
+        Map<String, String> constants = Map.of("appName", appName);
+        this.registrationConfirmation = load("registration-confirmation.html", constants,
+                "recipientName", "eventTitle", "eventDate", "startTime", "endTime", "location", "price", "noteRow");
+        this.registrationCancellation = load("registration-cancellation.html", constants,
+                "recipientName", "eventTitle", "eventDate");
+        this.emailVerificationOtp = load("email-verification-otp.html", constants, "recipientName", "otpCode");
+        this.passwordResetOtp = load("password-reset-otp.html", constants, "recipientName", "otpCode");
+        this.eventMailing = load("event-mailing.html", constants, "recipientName", "eventTitle", "eventDate", "message");
+    }
+
+    public String renderRegistrationConfirmation(User user, Event event, Registration registration) {
+        String note = registration.getNote();
+        String noteRow = note != null && !note.isEmpty()
+                ? "<div class=\"detail-row\"><span class=\"label\">Note:</span> " + HtmlUtils.htmlEscape(note) + "</div>"
+                : "";
+
+        return registrationConfirmation.render(
+                displayName(user),
+                event.getTitle(),
+                formatDate(event),
+                event.getStartTime() != null ? event.getStartTime().format(TIME_FORMATTER) : "TBA",
+                event.getEndTime() != null ? event.getEndTime().format(TIME_FORMATTER) : "TBA",
+                event.getLocation() != null ? event.getLocation() : "TBA",
+                event.getPrice() != null
+                        ? "$" + BigDecimal.valueOf(event.getPrice()).setScale(2, RoundingMode.HALF_UP).toPlainString()
+                        : "Free",
+                noteRow);
+    }
+
+    public String renderRegistrationCancellation(User user, Event event) {
+        return registrationCancellation.render(displayName(user), event.getTitle(), formatDate(event));
+    }
+
+    public String renderEmailVerificationOtp(String otpCode, String firstName) {
+        return emailVerificationOtp.render(firstName != null && !firstName.isEmpty() ? firstName : "User", otpCode);
+    }
+
+    public String renderPasswordResetOtp(String otpCode, String firstName) {
+        return passwordResetOtp.render(firstName != null && !firstName.isEmpty() ? firstName : "User", otpCode);
+    }
+
+    /**
+     * Event mailing body shared by all recipients of a batch; {@code recipientName} is normally a
+     * per-recipient substitution tag filled in by the mail provider.
+     */
+    public String renderEventMailing(Event event, String message, String recipientName) {
+        return eventMailing.render(recipientName, event.getTitle(), formatDate(event), message);
+    }
+
+    private static String displayName(User user) {
+        return user.getFirstName() != null ? user.getFirstName() : user.getUsername();
+    }
+
+    private static String formatDate(Event event) {
+        return event.getEventDate() != null ? event.getEventDate().format(DATE_FORMATTER) : "TBA";
+    }
+
+    private static EmailTemplate load(String name, Map<String, String> constants, String... variables) {
+        try (InputStream in = new ClassPathResource("email-templates/" + name).getInputStream()) {
+            return EmailTemplate.compile(new String(in.readAllBytes(), StandardCharsets.UTF_8), constants, variables);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load email template " + name, e);
+        }
+    }
+}
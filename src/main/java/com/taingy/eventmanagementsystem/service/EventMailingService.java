@@ -0,0 +1,189 @@
+package com.taingy.eventmanagementsystem.service;
+
+import com.taingy.eventmanagementsystem.dto.EventMailingRequestDTO;
+import com.taingy.eventmanagementsystem.enums.MailingStatus;
+import com.taingy.eventmanagementsystem.exception.BadRequestException;
+import com.taingy.eventmanagementsystem.exception.ResourceNotFoundException;
+import com.taingy.eventmanagementsystem.model.Event;
+import com.taingy.eventmanagementsystem.model.EventMailing;
+import com.taingy.eventmanagementsystem.model.Registration;
+import com.taingy.eventmanagementsystem.model.User;
+import com.taingy.eventmanagementsystem.repository.EventMailingRepository;
+import com.taingy.eventmanagementsystem.repository.EventRepository;
+import com.taingy.eventmanagementsystem.repository.RegistrationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Event-wide mailings (reschedules, cancellations, ...).
+ *
+ * Creating a mailing only records it; the scheduled {@link #processPendingMailings()} run walks the
+ * event's active registrations in id order and sends each page of up to 1000 recipients as a single
+ * SendGrid request. The cursor and counters are saved after every accepted request, so a restart or a
+ * failed request resumes from the last delivered page. A crash between sending a page and saving the
+ * cursor re-sends that one page.
+ *
+ * A processor first takes a lease on the mailing ({@code claimed_by}/{@code lease_until}) and renews it
+ * with every page, so when several application instances run the scheduler only one of them delivers
+ * a given mailing. A lease left behind by a crashed instance can be taken over once it expires.
+ */
+@Service
+public class EventMailingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventMailingService.class);
+
+    /** Start of the registration id keyset, sorts before every real UUID. */
+    private static final UUID FIRST_REGISTRATION_ID = new UUID(0L, 0L);
+
+    private final EventMailingRepository eventMailingRepository;
+    private final EventRepository eventRepository;
+    private final RegistrationRepository registrationRepository;
+    private final SendGridEmailService sendGridEmailService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration lease;
+
+    /** Identifies this processor in {@code claimed_by}. */
+    private final String processorId = UUID.randomUUID().toString();
+
+    public EventMailingService(EventMailingRepository eventMailingRepository, EventRepository eventRepository,
+                               RegistrationRepository registrationRepository,
+                               SendGridEmailService sendGridEmailService,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.mailing.batch-size:" + SendGridEmailService.MAX_PERSONALIZATIONS_PER_REQUEST + "}") int batchSize,
+                               @Value("${app.mailing.lease-ms:300000}") long leaseMs) {
+        this.eventMailingRepository = eventMailingRepository;
+        this.eventRepository = eventRepository;
+        this.registrationRepository = registrationRepository;
+        this.sendGridEmailService = sendGridEmailService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.min(batchSize, SendGridEmailService.MAX_PERSONALIZATIONS_PER_REQUEST);
+        this.lease = Duration.ofMillis(leaseMs);
+    }
+
+    @Transactional
+    public EventMailing createMailing(UUID eventId, EventMailingRequestDTO request, User createdBy) {
+        if (request.getSubject() == null || request.getSubject().isBlank()) {
+            throw new BadRequestException("Subject is required");
+        }
+        if (request.getMessage() == null || request.getMessage().isBlank()) {
+            throw new BadRequestException("Message is required");
+        }
+
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+
+        EventMailing mailing = new EventMailing();
+        mailing.setEvent(event);
+        mailing.setCreatedBy(createdBy);
+        mailing.setSubject(request.getSubject().trim());
+        mailing.setMessage(request.getMessage());
+        mailing.setTotalRecipients((int) registrationRepository.countActiveByEventId(eventId));
+        return eventMailingRepository.save(mailing);
+    }
+
+    public EventMailing getMailing(UUID eventId, UUID mailingId) {
+        return eventMailingRepository.findById(mailingId)
+                .filter(mailing -> mailing.getEvent().getId().equals(eventId))
+                .orElseThrow(() -> new ResourceNotFoundException("Mailing", "id", mailingId));
+    }
+
+    public List<EventMailing> getMailingsForEvent(UUID eventId) {
+        return eventMailingRepository.findByEventIdOrderByCreatedAtDesc(eventId);
+    }
+
+    /**
+     * Puts a failed mailing back in the queue; delivery continues after the last accepted page.
+     */
+    @Transactional
+    public EventMailing resumeMailing(UUID eventId, UUID mailingId) {
+        EventMailing mailing = getMailing(eventId, mailingId);
+        if (mailing.getStatus() != MailingStatus.FAILED) {
+            throw new BadRequestException("Only failed mailings can be resumed");
+        }
+        mailing.setStatus(MailingStatus.PENDING);
+        mailing.setLastError(null);
+        mailing.setClaimedBy(null);
+        mailing.setLeaseUntil(null);
+        return eventMailingRepository.save(mailing);
+    }
+
+    @Scheduled(fixedDelayString = "${app.mailing.process-interval-ms:5000}",
+               initialDelayString = "${app.mailing.process-interval-ms:5000}")
+    public void processPendingMailings() {
+        try {
+            List<EventMailing> mailings = eventMailingRepository.findByStatusInOrderByCreatedAtAsc(
+                    List.of(MailingStatus.PENDING, MailingStatus.IN_PROGRESS));
+            for (EventMailing mailing : mailings) {
+                processMailing(mailing.getId(), mailing.getEvent());
+            }
+        } catch (Exception e) {
+            logger.error("Error processing event mailings", e);
+        }
+    }
+
+    private void processMailing(UUID mailingId, Event event) {
+        LocalDateTime claimedAt = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status -> eventMailingRepository.claim(
+                mailingId, processorId, claimedAt.plus(lease), claimedAt));
+        if (claimed == null || claimed == 0) {
+            // Another processor is delivering it
+            return;
+        }
+
+        while (true) {
+            EventMailing mailing = eventMailingRepository.findById(mailingId).orElse(null);
+            if (mailing == null || !processorId.equals(mailing.getClaimedBy())) {
+                return;
+            }
+
+            UUID after = mailing.getLastRegistrationId() != null ? mailing.getLastRegistrationId() : FIRST_REGISTRATION_ID;
+            List<Registration> page = registrationRepository.findActiveByEventAfter(
+                    event.getId(), after, PageRequest.of(0, batchSize));
+
+            if (page.isEmpty()) {
+                finish(mailingId, MailingStatus.COMPLETED, null);
+                logger.info("Event mailing {} completed: {} recipient(s) in {} request(s)",
+                        mailingId, mailing.getSentCount(), mailing.getRequestCount());
+                return;
+            }
+
+            List<User> recipients = page.stream().map(Registration::getUser).toList();
+            try {
+                sendGridEmailService.sendEventMailing(event, mailing.getSubject(), mailing.getMessage(), recipients);
+            } catch (IOException e) {
+                logger.error("Event mailing {} failed after {} recipient(s)", mailingId, mailing.getSentCount(), e);
+                finish(mailingId, MailingStatus.FAILED, e.getMessage());
+                return;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            UUID lastRegistrationId = page.get(page.size() - 1).getId();
+            Integer recorded = transactionTemplate.execute(status -> eventMailingRepository.recordPage(
+                    mailingId, processorId, lastRegistrationId, recipients.size(), now.plus(lease), now));
+            if (recorded == null || recorded == 0) {
+                logger.warn("Event mailing {} lost its lease, leaving it to the processor that took over", mailingId);
+                return;
+            }
+        }
+    }
+
+    private void finish(UUID mailingId, MailingStatus status, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(tx -> eventMailingRepository.finish(mailingId, processorId, status,
+                error, status == MailingStatus.COMPLETED ? now : null, now));
+    }
+}
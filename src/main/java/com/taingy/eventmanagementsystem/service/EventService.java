@@ -1,11 +1,19 @@
 package com.taingy.eventmanagementsystem.service;
 
+import com.taingy.eventmanagementsystem.config.DatabaseFeatures;
+import com.taingy.eventmanagementsystem.dto.EventSummary;
+import com.taingy.eventmanagementsystem.dto.EventVersion;
 import com.taingy.eventmanagementsystem.enums.EventStatus;
 import com.taingy.eventmanagementsystem.model.Category;
 import com.taingy.eventmanagementsystem.model.Event;
 import com.taingy.eventmanagementsystem.repository.CategoryRepository;
 import com.taingy.eventmanagementsystem.repository.EventRepository;
+import com.taingy.eventmanagementsystem.util.PageCursor;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -16,14 +24,34 @@ public class EventService {
 
     private final EventRepository eventRepository;
     private final CategoryRepository categoryRepository;
+    private final DatabaseFeatures databaseFeatures;
+    private final SummaryService summaryService;
+    private final boolean fullTextSearchEnabled;
 
-    public EventService(EventRepository eventRepository, CategoryRepository categoryRepository) {
+    // Resolved at startup: full-text search needs PostgreSQL and the generated search_vector column
+    private boolean fullTextSearch;
+
+    public EventService(EventRepository eventRepository, CategoryRepository categoryRepository,
+                        DatabaseFeatures databaseFeatures, SummaryService summaryService,
+                        @Value("${app.search.full-text.enabled:true}") boolean fullTextSearchEnabled) {
         this.eventRepository = eventRepository;
         this.categoryRepository = categoryRepository;
+        this.databaseFeatures = databaseFeatures;
+        this.summaryService = summaryService;
+        this.fullTextSearchEnabled = fullTextSearchEnabled;
+    }
+
+    @PostConstruct
+    void detectFullTextSearch() {
+        fullTextSearch = fullTextSearchEnabled && databaseFeatures.hasPostgresColumn("events", "search_vector");
     }
 
     public Event saveEvent(Event event) {
-        return eventRepository.save(event);
+        EventStatus previousStatus = event.getId() == null ? null
+                : eventRepository.findStatusById(event.getId()).orElse(null);
+        Event saved = eventRepository.save(event);
+        summaryService.recordEvent(previousStatus, saved.getStatus());
+        return saved;
     }
 
     public List<Event> getAllEvents() {
@@ -38,8 +66,14 @@ public class EventService {
         return eventRepository.findById(id);
     }
 
+    public Optional<EventVersion> getEventVersion(UUID id) {
+        return eventRepository.findVersionById(id);
+    }
+
     public void deleteEvent(UUID id) {
+        Optional<EventStatus> status = eventRepository.findStatusById(id);
         eventRepository.deleteById(id);
+        status.ifPresent(previousStatus -> summaryService.recordEvent(previousStatus, null));
     }
 
     public Optional<Event> assignCategories(UUID eventId, Integer categoryId) {
@@ -53,11 +87,70 @@ public class EventService {
         return Optional.of(eventRepository.save(event));
     }
 
-    public Page<Event> searchEvents(String keyword, EventStatus status, Integer categoryId, Pageable pageable) {
+    /**
+     * Searches events by keyword, status and category. On PostgreSQL a keyword is matched with
+     * full-text search and results are ranked by relevance; elsewhere it is a case-insensitive
+     * substring match in the requested order.
+     */
+    public Page<EventSummary> searchEvents(String keyword, EventStatus status, Integer categoryId, Pageable pageable) {
+        if (useFullTextSearch(keyword)) {
+            Page<UUID> ids = eventRepository.searchEventIds(keyword, statusParam(status), categoryParam(categoryId),
+                    PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+            return new PageImpl<>(loadInOrder(ids.getContent()), pageable, ids.getTotalElements());
+        }
         if (keyword == null) {
             keyword = "";
         }
-        return eventRepository.getEvents(keyword, status, categoryId, pageable);
+        return eventRepository.getEventSummaries(keyword, status, categoryId, pageable);
+    }
+
+    /** Up to {@code limit} events after {@code cursor} in newest-first order. */
+    public List<EventSummary> searchEventsAfter(String keyword, EventStatus status, Integer categoryId,
+                                                PageCursor cursor, int limit) {
+        if (useFullTextSearch(keyword)) {
+            return loadInOrder(eventRepository.searchEventIdsBefore(keyword, statusParam(status),
+                    categoryParam(categoryId), cursor.createdAt(), cursor.id(), limit));
+        }
+        if (keyword == null) {
+            keyword = "";
+        }
+        return eventRepository.getEventSummariesBefore(keyword, status, categoryId,
+                cursor.createdAt(), cursor.id(), PageRequest.ofSize(limit));
     }
-}
 
+    /** Summaries of the given events keyed by id, loaded with a single query. */
+    public Map<UUID, EventSummary> getEventSummaries(Collection<UUID> ids) {
+        Map<UUID, EventSummary> byId = new HashMap<>();
+        if (ids.isEmpty()) {
+            return byId;
+        }
+        for (EventSummary event : eventRepository.findSummariesByIdIn(ids)) {
+            byId.put(event.id(), event);
+        }
+        return byId;
+    }
+
+    private boolean useFullTextSearch(String keyword) {
+        return fullTextSearch && keyword != null && !keyword.isBlank();
+    }
+
+    private List<EventSummary> loadInOrder(List<UUID> ids) {
+        Map<UUID, EventSummary> byId = getEventSummaries(ids);
+        List<EventSummary> events = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            EventSummary event = byId.get(id);
+            if (event != null) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    private static String statusParam(EventStatus status) {
+        return status != null ? status.name() : "";
+    }
+
+    private static int categoryParam(Integer categoryId) {
+        return categoryId != null ? categoryId : 0;
+    }
+}
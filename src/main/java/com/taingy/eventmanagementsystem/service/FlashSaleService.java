@@ -0,0 +1,126 @@
+package com.taingy.eventmanagementsystem.service;
+
+import com.taingy.eventmanagementsystem.exception.BadRequestException;
+import com.taingy.eventmanagementsystem.exception.ResourceNotFoundException;
+import com.taingy.eventmanagementsystem.model.Event;
+import com.taingy.eventmanagementsystem.repository.EventRepository;
+import com.taingy.eventmanagementsystem.util.StripedPermitCounter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Opt-in "flash sale" admission gate for high-demand events.
+ *
+ * While a flash sale is open, the remaining seats of the event are held as in-memory permits and
+ * registrations that cannot take a permit are rejected before touching the database. Permit holders
+ * still go through the conditional seat update in {@link RegistrationService}, which stays the source
+ * of truth; the permits are periodically reconciled against the event's registered count.
+ */
+@Service
+public class FlashSaleService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlashSaleService.class);
+
+    private final EventRepository eventRepository;
+    private final Map<UUID, FlashSale> flashSales = new ConcurrentHashMap<>();
+
+    public FlashSaleService(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    public int openFlashSale(UUID eventId) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+
+        if (event.getCapacity() == null) {
+            throw new BadRequestException("Flash sale mode requires an event capacity");
+        }
+
+        int remaining = event.getCapacity() - event.getRegisteredCount();
+        flashSales.put(eventId, new FlashSale(remaining));
+        logger.info("Opened flash sale for event {} with {} permits", eventId, remaining);
+        return remaining;
+    }
+
+    public void closeFlashSale(UUID eventId) {
+        if (flashSales.remove(eventId) != null) {
+            logger.info("Closed flash sale for event {}", eventId);
+        }
+    }
+
+    public boolean isFlashSaleOpen(UUID eventId) {
+        return flashSales.containsKey(eventId);
+    }
+
+    public Integer getAvailablePermits(UUID eventId) {
+        FlashSale flashSale = flashSales.get(eventId);
+        return flashSale != null ? flashSale.permits.available() : null;
+    }
+
+    /**
+     * Returns {@code false} when the event is in flash sale mode and no permit is left.
+     * A granted permit is handed back automatically if the surrounding transaction rolls back.
+     */
+    public boolean tryAdmit(UUID eventId) {
+        FlashSale flashSale = flashSales.get(eventId);
+        if (flashSale == null) {
+            return true;
+        }
+
+        if (!flashSale.permits.tryAcquire()) {
+            return false;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            flashSale.inFlight.incrementAndGet();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    flashSale.inFlight.decrementAndGet();
+                    if (status != STATUS_COMMITTED) {
+                        flashSale.permits.release();
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${app.flash-sale.reconcile-interval-ms:5000}")
+    public void reconcile() {
+        flashSales.forEach((eventId, flashSale) -> {
+            Integer remaining = eventRepository.findRemainingSeats(eventId);
+            if (remaining == null) {
+                flashSales.remove(eventId, flashSale);
+                logger.info("Closed flash sale for event {}: event no longer exists or has no capacity", eventId);
+                return;
+            }
+
+            // Permits held by open transactions are not yet reflected in the registered count
+            int expected = Math.max(remaining - flashSale.inFlight.get(), 0);
+            int available = flashSale.permits.available();
+            if (available != expected) {
+                logger.info("Reconciling flash sale permits for event {}: {} -> {}", eventId, available, expected);
+                flashSale.permits.reset(expected);
+            }
+        });
+    }
+
+    private static final class FlashSale {
+        private final StripedPermitCounter permits;
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private FlashSale(int permits) {
+            this.permits = new StripedPermitCounter(permits);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.taingy.eventmanagementsystem.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taingy.eventmanagementsystem.repository.RegistrationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Optional per-user cache of the ids of events a user is actively registered for, used to mark
+ * registered events in listings. Off by default; when off, listings look up only the ids on the
+ * current page. Metrics are published as {@code cache.*} meters tagged {@code cache=registeredEvents}.
+ *
+ * Entries are dropped when the user registers, cancels or has a registration updated; changes made
+ * on other instances are visible once the entry expires. Lookups inside a transaction bypass the
+ * cache, since they may see rows that are never committed.
+ */
+@Component
+public class RegisteredEventCache {
+
+    private final RegistrationRepository registrationRepository;
+    private final boolean enabled;
+    private final Cache<UUID, Set<UUID>> cache;
+
+    public RegisteredEventCache(RegistrationRepository registrationRepository, MeterRegistry meterRegistry,
+                                @Value("${app.registered-events-cache.enabled:false}") boolean enabled,
+                                @Value("${app.registered-events-cache.max-size:10000}") long maxSize,
+                                @Value("${app.registered-events-cache.ttl-ms:60000}") long ttlMs) {
+        this.registrationRepository = registrationRepository;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "registeredEvents");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Ids of the events the user has a non-cancelled registration for; the set is unmodifiable. */
+    public Set<UUID> getActiveEventIds(UUID userId) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Set.copyOf(registrationRepository.findActiveEventIdsByUserId(userId));
+        }
+        return cache.get(userId, key -> Set.copyOf(registrationRepository.findActiveEventIdsByUserId(key)));
+    }
+
+    public void invalidate(UUID userId) {
+        if (userId == null) {
+            return;
+        }
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+}
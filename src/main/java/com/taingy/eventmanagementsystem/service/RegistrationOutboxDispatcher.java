@@ -0,0 +1,233 @@
+package com.taingy.eventmanagementsystem.service;
+
+import com.taingy.eventmanagementsystem.enums.OutboxMessageType;
+import com.taingy.eventmanagementsystem.model.Notification;
+import com.taingy.eventmanagementsystem.model.OutboxMessage;
+import com.taingy.eventmanagementsystem.model.Registration;
+import com.taingy.eventmanagementsystem.repository.NotificationRepository;
+import com.taingy.eventmanagementsystem.repository.OutboxMessageRepository;
+import com.taingy.eventmanagementsystem.repository.RegistrationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Background dispatcher for the registration outbox.
+ *
+ * RegistrationService only writes an {@link OutboxMessage} inside the registration transaction; this
+ * dispatcher works a batch in three steps:
+ * <ol>
+ *   <li>a short transaction claims due messages (SKIP LOCKED), counts the attempt, writes the
+ *       notification on the first attempt and pushes {@code nextAttemptAt} out by a lease;</li>
+ *   <li>the emails are sent outside any transaction, so a slow provider holds no connection or row lock;</li>
+ *   <li>a second short transaction marks the sent messages processed and schedules retries for the
+ *       failed ones, with exponential backoff until {@code app.outbox.max-attempts} is reached.</li>
+ * </ol>
+ * A crash after the claim leaves the messages pending; they become due again once the lease runs out,
+ * so delivery is at least once: a crash between an accepted send and the second step re-sends it.
+ */
+@Service
+public class RegistrationOutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegistrationOutboxDispatcher.class);
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final RegistrationRepository registrationRepository;
+    private final NotificationRepository notificationRepository;
+    private final EmailService emailService;
+    private final SendGridEmailService sendGridEmailService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.outbox.max-attempts:10}")
+    private int maxAttempts = 10;
+
+    @Value("${app.outbox.retry-initial-backoff-ms:30000}")
+    private long initialBackoffMs = 30000;
+
+    @Value("${app.outbox.claim-lease-ms:300000}")
+    private long claimLeaseMs = 300000;
+
+    public RegistrationOutboxDispatcher(OutboxMessageRepository outboxMessageRepository,
+                                        RegistrationRepository registrationRepository,
+                                        NotificationRepository notificationRepository,
+                                        EmailService emailService, SendGridEmailService sendGridEmailService,
+                                        PlatformTransactionManager transactionManager) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.registrationRepository = registrationRepository;
+        this.notificationRepository = notificationRepository;
+        this.emailService = emailService;
+        this.sendGridEmailService = sendGridEmailService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.dispatch-interval-ms:1000}",
+               initialDelayString = "${app.outbox.dispatch-interval-ms:1000}")
+    public void dispatchPending() {
+        try {
+            Integer dispatched;
+            do {
+                dispatched = dispatchBatch();
+            } while (dispatched != null && dispatched == batchSize);
+        } catch (Exception e) {
+            logger.error("Error dispatching registration outbox messages", e);
+        }
+    }
+
+    private int dispatchBatch() {
+        List<Claimed> claimed = transactionTemplate.execute(status -> claimBatch());
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        Map<UUID, Exception> failures = new HashMap<>();
+        int sent = 0;
+        for (Claimed message : claimed) {
+            if (message.registration() == null) {
+                continue;
+            }
+            try {
+                sendEmail(message.registration(), message.type());
+                sent++;
+            } catch (Exception e) {
+                failures.put(message.id(), e);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> recordOutcomes(claimed, failures));
+        logger.info("Dispatched {} registration outbox message(s), {} email(s) sent", claimed.size(), sent);
+        return claimed.size();
+    }
+
+    /** Claims a batch of due messages until their lease runs out; runs in its own short transaction. */
+    private List<Claimed> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxMessage> messages = outboxMessageRepository.findPendingForUpdate(now, PageRequest.of(0, batchSize));
+        if (messages.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Registration> registrations = registrationRepository.findByIdIn(
+                        messages.stream().map(OutboxMessage::getRegistrationId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Registration::getId, Function.identity()));
+
+        List<Notification> notifications = new ArrayList<>();
+        List<Claimed> claimed = new ArrayList<>(messages.size());
+        for (OutboxMessage message : messages) {
+            Registration registration = registrations.get(message.getRegistrationId());
+            if (registration == null) {
+                logger.warn("Skipping outbox message {}: registration {} no longer exists",
+                        message.getId(), message.getRegistrationId());
+                message.setProcessedAt(now);
+            } else {
+                // Committed together with the attempt counter, so retries do not notify twice
+                if (message.getAttempts() == 0) {
+                    notifications.add(buildNotification(registration, message.getType()));
+                }
+                message.setAttempts(message.getAttempts() + 1);
+                message.setNextAttemptAt(now.plus(Duration.ofMillis(claimLeaseMs)));
+            }
+            claimed.add(new Claimed(message.getId(), message.getType(), registration));
+        }
+
+        notificationRepository.saveAll(notifications);
+        outboxMessageRepository.saveAll(messages);
+        return claimed;
+    }
+
+    private void recordOutcomes(List<Claimed> claimed, Map<UUID, Exception> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> attempted = claimed.stream()
+                .filter(message -> message.registration() != null)
+                .map(Claimed::id)
+                .toList();
+        List<OutboxMessage> messages = outboxMessageRepository.findAllById(attempted);
+        for (OutboxMessage message : messages) {
+            Exception failure = failures.get(message.getId());
+            if (failure == null) {
+                message.setProcessedAt(now);
+                message.setLastError(null);
+            } else {
+                recordFailure(message, failure, now);
+            }
+        }
+        outboxMessageRepository.saveAll(messages);
+    }
+
+    private void recordFailure(OutboxMessage message, Exception e, LocalDateTime now) {
+        message.setLastError(e.getMessage());
+        if (message.getAttempts() >= maxAttempts) {
+            logger.error("Giving up on outbox message {} after {} attempt(s)", message.getId(), message.getAttempts(), e);
+            message.setProcessedAt(now);
+            return;
+        }
+        long backoffMs = initialBackoffMs << Math.min(message.getAttempts() - 1, 10);
+        message.setNextAttemptAt(now.plus(Duration.ofMillis(backoffMs)));
+        logger.warn("Email for outbox message {} failed (attempt {}/{}), retrying in {} ms: {}",
+                message.getId(), message.getAttempts(), maxAttempts, backoffMs, e.getMessage());
+    }
+
+    private Notification buildNotification(Registration registration, OutboxMessageType type) {
+        String message = type == OutboxMessageType.REGISTRATION
+                ? "You have successfully registered for event: " + registration.getEvent().getTitle()
+                : "You have cancelled your registration for event: " + registration.getEvent().getTitle();
+
+        Notification notification = new Notification();
+        notification.setUser(registration.getUser());
+        notification.setEvent(registration.getEvent());
+        notification.setMessage(message);
+        notification.setType(type.name());
+        notification.setIsRead(false);
+        return notification;
+    }
+
+    private void sendEmail(Registration registration, OutboxMessageType type) throws Exception {
+        if (type == OutboxMessageType.REGISTRATION) {
+            if (sendGridEmailService != null) {
+                sendGridEmailService.sendRegistrationConfirmation(registration);
+            } else {
+                emailService.sendRegistrationConfirmation(registration);
+            }
+        } else {
+            if (sendGridEmailService != null) {
+                sendGridEmailService.sendRegistrationCancellation(registration);
+            } else {
+                emailService.sendRegistrationCancellation(registration);
+            }
+        }
+    }
+
+    @Scheduled(fixedRate = 3600000) // 1 hour
+    @Transactional
+    public void cleanupProcessedMessages() {
+        try {
+            outboxMessageRepository.deleteByProcessedAtBefore(LocalDateTime.now().minusDays(1));
+            logger.info("Cleaned up processed outbox messages");
+        } catch (Exception e) {
+            logger.error("Error cleaning up processed outbox messages", e);
+        }
+    }
+
+    /** A claimed message; {@code registration} is {@code null} when it no longer exists. */
+    private record Claimed(UUID id, OutboxMessageType type, Registration registration) {
+    }
+}
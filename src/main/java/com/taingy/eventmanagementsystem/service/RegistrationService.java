@@ -1,23 +1,30 @@
 package com.taingy.eventmanagementsystem.service;
 
+import com.taingy.eventmanagementsystem.dto.EventSummary;
 import com.taingy.eventmanagementsystem.dto.RegistrationRequestDTO;
+import com.taingy.eventmanagementsystem.dto.RegistrationState;
+import com.taingy.eventmanagementsystem.dto.RegistrationSummary;
 import com.taingy.eventmanagementsystem.dto.RegistrationUpdateDTO;
+import com.taingy.eventmanagementsystem.enums.OutboxMessageType;
 import com.taingy.eventmanagementsystem.enums.RegistrationStatus;
 import com.taingy.eventmanagementsystem.exception.BadRequestException;
 import com.taingy.eventmanagementsystem.exception.DuplicateResourceException;
 import com.taingy.eventmanagementsystem.exception.ResourceNotFoundException;
 import com.taingy.eventmanagementsystem.model.Event;
-import com.taingy.eventmanagementsystem.model.Notification;
+import com.taingy.eventmanagementsystem.model.OutboxMessage;
 import com.taingy.eventmanagementsystem.model.Registration;
 import com.taingy.eventmanagementsystem.model.User;
 import com.taingy.eventmanagementsystem.repository.EventRepository;
-import com.taingy.eventmanagementsystem.repository.NotificationRepository;
+import com.taingy.eventmanagementsystem.repository.OutboxMessageRepository;
 import com.taingy.eventmanagementsystem.repository.RegistrationRepository;
 import com.taingy.eventmanagementsystem.repository.UserRepository;
+import com.taingy.eventmanagementsystem.util.PageCursor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -28,38 +35,31 @@ public class RegistrationService {
     private final RegistrationRepository registrationRepository;
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
-    private final EmailService emailService;
-    private final NotificationRepository notificationRepository;
-    private final SendGridEmailService sendGridEmailService;
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final FlashSaleService flashSaleService;
+    private final SummaryService summaryService;
+    private final RegisteredEventCache registeredEventCache;
 
     public RegistrationService(RegistrationRepository registrationRepository, EventRepository eventRepository,
-                               UserRepository userRepository, EmailService emailService,
-                               NotificationRepository notificationRepository, SendGridEmailService sendGridEmailService) {
+                               UserRepository userRepository, OutboxMessageRepository outboxMessageRepository,
+                               FlashSaleService flashSaleService, SummaryService summaryService,
+                               RegisteredEventCache registeredEventCache) {
         this.registrationRepository = registrationRepository;
         this.eventRepository = eventRepository;
         this.userRepository = userRepository;
-        this.emailService = emailService;
-        this.notificationRepository = notificationRepository;
-        this.sendGridEmailService = sendGridEmailService;
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.flashSaleService = flashSaleService;
+        this.summaryService = summaryService;
+        this.registeredEventCache = registeredEventCache;
     }
 
-    private void sendConfirmationEmail(Registration registration) {
-        if (sendGridEmailService != null) {
-            sendGridEmailService.sendRegistrationConfirmation(registration);
-        } else {
-            emailService.sendRegistrationConfirmation(registration);
-        }
-    }
-
-    private void sendCancellationEmail(Registration registration) {
-        if (sendGridEmailService != null) {
-            sendGridEmailService.sendRegistrationCancellation(registration);
-        } else {
-            emailService.sendRegistrationCancellation(registration);
+    @Transactional
+    public Optional<Registration> registerAttendee(RegistrationRequestDTO request) {
+        // During a flash sale, reject requests without a seat permit before hitting the database
+        if (!flashSaleService.tryAdmit(request.getEventId())) {
+            throw new BadRequestException("Event has reached its capacity");
         }
-    }
 
-    public Optional<Registration> registerAttendee(RegistrationRequestDTO request) {
         // Check if event exists
         Event event = eventRepository.findById(request.getEventId())
                 .orElseThrow(() -> new ResourceNotFoundException("Event", "id", request.getEventId()));
@@ -74,15 +74,15 @@ public class RegistrationService {
             Registration existing = existingRegistration.get();
             // If registration is cancelled, allow re-registration
             if (existing.getStatus() == RegistrationStatus.CANCELLED) {
+                reserveSeat(event);
                 existing.setStatus(RegistrationStatus.CONFIRMED);
                 existing.setNote(request.getNote());
                 Registration savedRegistration = registrationRepository.save(existing);
+                summaryService.recordRegistration(RegistrationStatus.CANCELLED, RegistrationStatus.CONFIRMED);
+                registeredEventCache.invalidate(user.getId());
 
-                // Send confirmation email
-                sendConfirmationEmail(savedRegistration);
-
-                // Save notification
-                saveNotification(user, event, "You have successfully registered for event: " + event.getTitle(), "REGISTRATION");
+                // Confirmation email and notification are sent by RegistrationOutboxDispatcher
+                enqueueOutboxMessage(savedRegistration, OutboxMessageType.REGISTRATION);
 
                 return Optional.of(savedRegistration);
             }
@@ -90,6 +90,8 @@ public class RegistrationService {
             throw new DuplicateResourceException("User is already registered for this event");
         }
 
+        reserveSeat(event);
+
         // Create new registration
         Registration registration = new Registration();
         registration.setEvent(event);
@@ -98,72 +100,118 @@ public class RegistrationService {
         registration.setNote(request.getNote());
 
         Registration savedRegistration = registrationRepository.save(registration);
+        summaryService.recordRegistration(null, RegistrationStatus.CONFIRMED);
+        registeredEventCache.invalidate(user.getId());
 
-        // Send confirmation email
-        sendConfirmationEmail(savedRegistration);
-
-        // Save notification
-        saveNotification(user, event, "You have successfully registered for event: " + event.getTitle(), "REGISTRATION");
+        // Confirmation email and notification are sent by RegistrationOutboxDispatcher
+        enqueueOutboxMessage(savedRegistration, OutboxMessageType.REGISTRATION);
 
         return Optional.of(savedRegistration);
     }
 
     public List<Registration> getAllRegistrations() {
-        return registrationRepository.findAll();
+        return registrationRepository.findAllWithDetails();
     }
 
     public List<Registration> getRegistrationsByEvent(UUID eventId) {
-        Event event = eventRepository.findById(eventId).orElse(null);
-        return registrationRepository.findByEvent(event);
+        return registrationRepository.findWithDetailsByEventId(eventId);
     }
 
-    public Page<Registration> getRegistrationsByEvent(UUID eventId, Pageable pageable) {
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
-        return registrationRepository.findByEvent(event, pageable);
+    public Page<RegistrationSummary> getRegistrationsByEvent(UUID eventId, Pageable pageable) {
+        if (!eventRepository.existsById(eventId)) {
+            throw new ResourceNotFoundException("Event", "id", eventId);
+        }
+        return registrationRepository.findSummariesByEventId(eventId, pageable);
     }
 
     public List<Registration> getRegistrationsByUser(UUID userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
-        return registrationRepository.findByUser(user);
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
+        return registrationRepository.findWithDetailsByUserId(userId);
+    }
+
+    public Page<RegistrationSummary> getRegistrationsByUser(UUID userId, Pageable pageable) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
+        return registrationRepository.findSummariesByUserId(userId, pageable);
+    }
+
+    /** Up to {@code limit} of the event's registrations after {@code cursor}, newest first. */
+    public List<RegistrationSummary> getRegistrationsByEventAfter(UUID eventId, PageCursor cursor, int limit) {
+        if (!eventRepository.existsById(eventId)) {
+            throw new ResourceNotFoundException("Event", "id", eventId);
+        }
+        return registrationRepository.findSummariesByEventIdBefore(eventId, cursor.createdAt(), cursor.id(),
+                PageRequest.ofSize(limit));
+    }
+
+    /** Up to {@code limit} of the user's registrations after {@code cursor}, newest first. */
+    public List<RegistrationSummary> getRegistrationsByUserAfter(UUID userId, PageCursor cursor, int limit) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
+        return registrationRepository.findSummariesByUserIdBefore(userId, cursor.createdAt(), cursor.id(),
+                PageRequest.ofSize(limit));
     }
 
-    public Page<Registration> getRegistrationsByUser(UUID userId, Pageable pageable) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
-        return registrationRepository.findByUser(user, pageable);
+    /** The events referenced by {@code registrations}, keyed by id and loaded with one query. */
+    public Map<UUID, EventSummary> getRegisteredEvents(Collection<RegistrationSummary> registrations) {
+        Set<UUID> eventIds = new HashSet<>();
+        for (RegistrationSummary registration : registrations) {
+            eventIds.add(registration.eventId());
+        }
+        Map<UUID, EventSummary> events = new HashMap<>();
+        if (!eventIds.isEmpty()) {
+            for (EventSummary event : eventRepository.findSummariesByIdIn(eventIds)) {
+                events.put(event.id(), event);
+            }
+        }
+        return events;
     }
 
     public Optional<Registration> getRegistrationById(UUID id) {
-        return registrationRepository.findById(id);
+        return registrationRepository.findWithDetailsById(id);
     }
 
+    @Transactional
     public Optional<Registration> cancelRegistration(UUID id) {
-        Optional<Registration> regOpt = registrationRepository.findById(id);
+        Optional<Registration> regOpt = registrationRepository.findWithDetailsById(id);
         if (regOpt.isPresent()) {
             Registration reg = regOpt.get();
+            if (reg.getStatus() != RegistrationStatus.CANCELLED) {
+                releaseSeat(reg.getEvent());
+            }
+            summaryService.recordRegistration(reg.getStatus(), RegistrationStatus.CANCELLED);
+            registeredEventCache.invalidate(reg.getUser().getId());
             reg.setStatus(RegistrationStatus.CANCELLED);
             Registration savedRegistration = registrationRepository.save(reg);
 
-            // Send cancellation email
-            sendCancellationEmail(savedRegistration);
-
-            // Save notification
-            saveNotification(reg.getUser(), reg.getEvent(),
-                "You have cancelled your registration for event: " + reg.getEvent().getTitle(), "CANCELLATION");
+            // Cancellation email and notification are sent by RegistrationOutboxDispatcher
+            enqueueOutboxMessage(savedRegistration, OutboxMessageType.CANCELLATION);
 
             return Optional.of(savedRegistration);
         }
         return Optional.empty();
     }
 
+    @Transactional
     public Optional<Registration> updateRegistration(UUID id, RegistrationUpdateDTO updateDTO) {
-        Registration registration = registrationRepository.findById(id)
+        Registration registration = registrationRepository.findWithDetailsById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Registration", "id", id));
 
         // Update status if provided
         if (updateDTO.getStatus() != null) {
+            boolean wasCancelled = registration.getStatus() == RegistrationStatus.CANCELLED;
+            boolean isCancelled = updateDTO.getStatus() == RegistrationStatus.CANCELLED;
+            if (wasCancelled && !isCancelled) {
+                reserveSeat(registration.getEvent());
+            } else if (!wasCancelled && isCancelled) {
+                releaseSeat(registration.getEvent());
+            }
+            summaryService.recordRegistration(registration.getStatus(), updateDTO.getStatus());
+            registeredEventCache.invalidate(registration.getUser().getId());
             registration.setStatus(updateDTO.getStatus());
         }
 
@@ -180,48 +228,63 @@ public class RegistrationService {
             return false;
         }
 
-        User user = userRepository.findById(userId).orElse(null);
-        Event event = eventRepository.findById(eventId).orElse(null);
+        return registrationRepository.existsByUserIdAndEventIdAndStatusNot(userId, eventId,
+                RegistrationStatus.CANCELLED);
+    }
 
-        if (user == null || event == null) {
-            return false;
+    /**
+     * The user's registration status for each of {@code eventIds} that they have a registration
+     * for (including cancelled ones), read with one query.
+     */
+    public Map<UUID, RegistrationStatus> getRegistrationStatuses(UUID userId, Collection<UUID> eventIds) {
+        Map<UUID, RegistrationStatus> statuses = new HashMap<>();
+        if (userId == null || eventIds.isEmpty()) {
+            return statuses;
         }
 
-        Optional<Registration> registration = registrationRepository.findByUserAndEvent(user, event);
-        return registration.isPresent() && registration.get().getStatus() != RegistrationStatus.CANCELLED;
+        for (RegistrationState state : registrationRepository.findStatesByUserIdAndEventIds(userId, eventIds)) {
+            statuses.put(state.eventId(), state.status());
+        }
+        return statuses;
     }
 
-    public Set<UUID> getRegisteredEventIdsForUser(UUID userId) {
-        if (userId == null) {
+    /** Which of {@code eventIds} the user is actively registered for. */
+    public Set<UUID> getRegisteredEventIdsForUser(UUID userId, Collection<UUID> eventIds) {
+        if (userId == null || eventIds.isEmpty()) {
             return new HashSet<>();
         }
 
-        User user = userRepository.findById(userId).orElse(null);
-        if (user == null) {
-            return new HashSet<>();
+        if (registeredEventCache.isEnabled()) {
+            Set<UUID> registered = new HashSet<>(eventIds);
+            registered.retainAll(registeredEventCache.getActiveEventIds(userId));
+            return registered;
         }
+        return new HashSet<>(registrationRepository.findActiveEventIdsByUserIdAndEventIds(userId, eventIds));
+    }
 
-        List<Registration> registrations = registrationRepository.findByUser(user);
-        Set<UUID> eventIds = new HashSet<>();
-
-        for (Registration registration : registrations) {
-            if (registration.getStatus() != RegistrationStatus.CANCELLED) {
-                eventIds.add(registration.getEvent().getId());
-            }
+    /**
+     * Takes a seat with a conditional UPDATE on the event row, so capacity is enforced
+     * without locking the event or reading the registration count first.
+     */
+    private void reserveSeat(Event event) {
+        if (eventRepository.incrementRegisteredCount(event.getId()) == 0) {
+            throw new BadRequestException("Event has reached its capacity");
         }
+        // Keep the managed entity in sync; the column itself is not updatable through the entity
+        event.setRegisteredCount(event.getRegisteredCount() + 1);
+    }
 
-        return eventIds;
+    private void releaseSeat(Event event) {
+        if (eventRepository.decrementRegisteredCount(event.getId()) > 0) {
+            event.setRegisteredCount(event.getRegisteredCount() - 1);
+        }
     }
 
-    private void saveNotification(User user, Event event, String message, String type) {
-        Notification notification = new Notification();
-        notification.setUser(user);
-        notification.setEvent(event);
-        notification.setMessage(message);
-        notification.setType(type);
-        notification.setIsRead(false);
-        notificationRepository.save(notification);
+    private void enqueueOutboxMessage(Registration registration, OutboxMessageType type) {
+        OutboxMessage message = new OutboxMessage();
+        message.setType(type);
+        message.setRegistrationId(registration.getId());
+        outboxMessageRepository.save(message);
     }
 
 }
-
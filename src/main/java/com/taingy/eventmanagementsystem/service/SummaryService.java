@@ -1,30 +1,214 @@
 package com.taingy.eventmanagementsystem.service;
 
+import com.taingy.eventmanagementsystem.dto.GroupCount;
 import com.taingy.eventmanagementsystem.dto.SummaryResponseDTO;
+import com.taingy.eventmanagementsystem.enums.EventStatus;
+import com.taingy.eventmanagementsystem.enums.RegistrationStatus;
 import com.taingy.eventmanagementsystem.repository.CategoryRepository;
 import com.taingy.eventmanagementsystem.repository.EventRepository;
+import com.taingy.eventmanagementsystem.repository.RegistrationRepository;
 import com.taingy.eventmanagementsystem.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Dashboard counters kept in memory.
+ *
+ * The counters are recounted from the database periodically and the service write paths apply
+ * their changes on commit in between, so reading the summary does not query the database. A change
+ * that commits while a recount is running may be missed; the next recount corrects it. A summary
+ * older than the configured staleness bound is recounted before it is served.
+ */
 @Service
 public class SummaryService {
 
+    private static final Logger logger = LoggerFactory.getLogger(SummaryService.class);
+
     private final EventRepository eventRepository;
+    private final RegistrationRepository registrationRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
+    private final int trendDays;
+    private final long maxStalenessMs;
 
-    public SummaryService(EventRepository eventRepository, UserRepository userRepository,
-                         CategoryRepository categoryRepository) {
+    private final AtomicReference<Counters> counters = new AtomicReference<>();
+
+    public SummaryService(EventRepository eventRepository, RegistrationRepository registrationRepository,
+                          UserRepository userRepository, CategoryRepository categoryRepository,
+                          @Value("${app.summary.trend-days:30}") int trendDays,
+                          @Value("${app.summary.max-staleness-ms:300000}") long maxStalenessMs) {
         this.eventRepository = eventRepository;
+        this.registrationRepository = registrationRepository;
         this.userRepository = userRepository;
         this.categoryRepository = categoryRepository;
+        this.trendDays = trendDays;
+        this.maxStalenessMs = maxStalenessMs;
     }
 
     public SummaryResponseDTO getSummary() {
-        return SummaryResponseDTO.builder()
-                .totalEvents(eventRepository.count())
-                .totalUsers(userRepository.count())
-                .totalCategories(categoryRepository.count())
-                .build();
+        Counters current = counters.get();
+        if (current == null || System.currentTimeMillis() - current.recountedAtMillis > maxStalenessMs) {
+            current = recount();
+        }
+        return current.toResponse(LocalDate.now(), trendDays);
+    }
+
+    @Scheduled(fixedDelayString = "${app.summary.reconcile-interval-ms:60000}",
+            initialDelayString = "${app.summary.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        Counters previous = counters.get();
+        Counters recounted = recount();
+        if (previous != null && previous.totalEvents() != recounted.totalEvents()) {
+            // A write path that does not record its changes, or a change missed during the last recount
+            logger.info("Summary event count drifted: {} -> {}", previous.totalEvents(), recounted.totalEvents());
+        }
+    }
+
+    /** An event was created ({@code from} is null), deleted ({@code to} is null) or changed status. */
+    public void recordEvent(EventStatus from, EventStatus to) {
+        if (from != to) {
+            afterCommit(c -> c.move(c.eventsByStatus, from, to));
+        }
+    }
+
+    /** A registration was created ({@code from} is null) or changed status. */
+    public void recordRegistration(RegistrationStatus from, RegistrationStatus to) {
+        if (from == to) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        afterCommit(c -> {
+            c.move(c.registrationsByStatus, from, to);
+            if (from == null) {
+                c.registrationsPerDay.computeIfAbsent(today, day -> new LongAdder()).increment();
+            }
+        });
+    }
+
+    public void recordUsers(int delta) {
+        afterCommit(c -> c.users.add(delta));
+    }
+
+    public void recordCategories(int delta) {
+        afterCommit(c -> c.categories.add(delta));
+    }
+
+    private Counters recount() {
+        LocalDate firstDay = LocalDate.now().minusDays(trendDays - 1L);
+        Counters recounted = new Counters();
+        for (GroupCount<EventStatus> row : eventRepository.countByStatus()) {
+            recounted.eventsByStatus.get(row.key()).add(row.count());
+        }
+        for (GroupCount<RegistrationStatus> row : registrationRepository.countByStatus()) {
+            recounted.registrationsByStatus.get(row.key()).add(row.count());
+        }
+        for (GroupCount<LocalDate> row : registrationRepository.countPerDaySince(firstDay.atStartOfDay())) {
+            recounted.registrationsPerDay.computeIfAbsent(row.key(), day -> new LongAdder()).add(row.count());
+        }
+        recounted.users.add(userRepository.count());
+        recounted.categories.add(categoryRepository.count());
+        counters.set(recounted);
+        return recounted;
+    }
+
+    // Applies the change once the surrounding transaction commits, or right away outside one
+    private void afterCommit(Consumer<Counters> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Consumer<Counters> change) {
+        // Nothing to update before the first recount, which will include the change
+        Counters current = counters.get();
+        if (current != null) {
+            change.accept(current);
+        }
+    }
+
+    private static final class Counters {
+        // Every status has an adder from the start, so the maps themselves are never modified
+        private final Map<EventStatus, LongAdder> eventsByStatus = adders(EventStatus.class);
+        private final Map<RegistrationStatus, LongAdder> registrationsByStatus = adders(RegistrationStatus.class);
+        private final Map<LocalDate, LongAdder> registrationsPerDay = new ConcurrentHashMap<>();
+        private final LongAdder users = new LongAdder();
+        private final LongAdder categories = new LongAdder();
+        private final long recountedAtMillis = System.currentTimeMillis();
+        private final LocalDateTime recountedAt = LocalDateTime.now();
+
+        private <S extends Enum<S>> void move(Map<S, LongAdder> byStatus, S from, S to) {
+            if (from != null) {
+                byStatus.get(from).decrement();
+            }
+            if (to != null) {
+                byStatus.get(to).increment();
+            }
+        }
+
+        private long totalEvents() {
+            return sum(eventsByStatus);
+        }
+
+        private SummaryResponseDTO toResponse(LocalDate today, int trendDays) {
+            Map<LocalDate, Long> perDay = new LinkedHashMap<>();
+            for (LocalDate day = today.minusDays(trendDays - 1L); !day.isAfter(today); day = day.plusDays(1)) {
+                LongAdder count = registrationsPerDay.get(day);
+                perDay.put(day, count != null ? count.sum() : 0L);
+            }
+            return SummaryResponseDTO.builder()
+                    .totalEvents(totalEvents())
+                    .totalUsers(users.sum())
+                    .totalCategories(categories.sum())
+                    .totalRegistrations(sum(registrationsByStatus))
+                    .eventsByStatus(sums(eventsByStatus))
+                    .registrationsByStatus(sums(registrationsByStatus))
+                    .registrationsPerDay(perDay)
+                    .reconciledAt(recountedAt)
+                    .build();
+        }
+
+        private static <S extends Enum<S>> Map<S, LongAdder> adders(Class<S> type) {
+            Map<S, LongAdder> adders = new EnumMap<>(type);
+            for (S status : type.getEnumConstants()) {
+                adders.put(status, new LongAdder());
+            }
+            return adders;
+        }
+
+        private static <S extends Enum<S>> Map<S, Long> sums(Map<S, LongAdder> adders) {
+            Map<S, Long> sums = new LinkedHashMap<>();
+            adders.forEach((status, adder) -> sums.put(status, adder.sum()));
+            return sums;
+        }
+
+        private static long sum(Map<?, LongAdder> adders) {
+            long total = 0;
+            for (LongAdder adder : adders.values()) {
+                total += adder.sum();
+            }
+            return total;
+        }
     }
 }
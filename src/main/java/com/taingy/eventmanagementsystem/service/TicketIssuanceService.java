@@ -0,0 +1,235 @@
+package com.taingy.eventmanagementsystem.service;
+
+import com.taingy.eventmanagementsystem.config.DatabaseFeatures;
+import com.taingy.eventmanagementsystem.enums.IssuanceStatus;
+import com.taingy.eventmanagementsystem.enums.TicketStatus;
+import com.taingy.eventmanagementsystem.exception.BadRequestException;
+import com.taingy.eventmanagementsystem.exception.ResourceNotFoundException;
+import com.taingy.eventmanagementsystem.model.Event;
+import com.taingy.eventmanagementsystem.model.TicketIssuance;
+import com.taingy.eventmanagementsystem.model.User;
+import com.taingy.eventmanagementsystem.repository.EventRepository;
+import com.taingy.eventmanagementsystem.repository.RegistrationRepository;
+import com.taingy.eventmanagementsystem.repository.TicketIssuanceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bulk ticket issuance for an event.
+ *
+ * Creating an issuance only records it; the scheduled {@link #processPendingIssuances()} run walks
+ * the event's confirmed registrations without a ticket in id order and inserts a ticket for each
+ * page with one JDBC batch. The tickets and the issuance cursor are committed in the same
+ * transaction, so a restart or a failed batch resumes after the last committed page without
+ * issuing anything twice.
+ *
+ * A processor first takes a lease on the run ({@code claimed_by}/{@code lease_until}) and renews it
+ * with every batch; a batch whose lease renewal fails is rolled back, so when several application
+ * instances run the scheduler only one of them issues a given run. A lease left behind by a crashed
+ * instance can be taken over once it expires.
+ */
+@Service
+public class TicketIssuanceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TicketIssuanceService.class);
+
+    /** Start of the registration id keyset, sorts before every real UUID. */
+    private static final UUID FIRST_REGISTRATION_ID = new UUID(0L, 0L);
+
+    // A ticket issued for the registration in the meantime (single issue endpoint) is left alone
+    private static final String INSERT_TICKET_SQL = """
+            INSERT INTO tickets (id, registration_id, ticket_number, qr_code, status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (registration_id) DO NOTHING
+            """;
+
+    // H2 (tests) has no conflict targets; its tickets table gets the unique constraint from the entity
+    private static final String INSERT_TICKET_ANY_CONFLICT_SQL = """
+            INSERT INTO tickets (id, registration_id, ticket_number, qr_code, status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private final TicketIssuanceRepository ticketIssuanceRepository;
+    private final EventRepository eventRepository;
+    private final RegistrationRepository registrationRepository;
+    private final TicketNumberAllocator ticketNumberAllocator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration lease;
+
+    // Resolved at startup: the conflict target needs PostgreSQL and the unique tickets.registration_id index
+    private final String insertTicketSql;
+
+    /** Identifies this processor in {@code claimed_by}. */
+    private final String processorId = UUID.randomUUID().toString();
+
+    public TicketIssuanceService(TicketIssuanceRepository ticketIssuanceRepository, EventRepository eventRepository,
+                                 RegistrationRepository registrationRepository,
+                                 TicketNumberAllocator ticketNumberAllocator, DataSource dataSource,
+                                 PlatformTransactionManager transactionManager, DatabaseFeatures databaseFeatures,
+                                 @Value("${app.tickets.issue-batch-size:1000}") int batchSize,
+                                 @Value("${app.tickets.issue-lease-ms:300000}") long leaseMs) {
+        this.ticketIssuanceRepository = ticketIssuanceRepository;
+        this.eventRepository = eventRepository;
+        this.registrationRepository = registrationRepository;
+        this.ticketNumberAllocator = ticketNumberAllocator;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.lease = Duration.ofMillis(leaseMs);
+        this.insertTicketSql = databaseFeatures.hasPostgresUniqueIndex("tickets", "registration_id")
+                ? INSERT_TICKET_SQL : INSERT_TICKET_ANY_CONFLICT_SQL;
+    }
+
+    @Transactional
+    public TicketIssuance createIssuance(UUID eventId, User createdBy) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+
+        TicketIssuance issuance = new TicketIssuance();
+        issuance.setEvent(event);
+        issuance.setCreatedBy(createdBy);
+        issuance.setTotalRegistrations((int) registrationRepository.countUnticketedConfirmedByEventId(eventId));
+        return ticketIssuanceRepository.save(issuance);
+    }
+
+    public TicketIssuance getIssuance(UUID eventId, UUID issuanceId) {
+        return ticketIssuanceRepository.findById(issuanceId)
+                .filter(issuance -> issuance.getEvent().getId().equals(eventId))
+                .orElseThrow(() -> new ResourceNotFoundException("Ticket issuance", "id", issuanceId));
+    }
+
+    public List<TicketIssuance> getIssuancesForEvent(UUID eventId) {
+        return ticketIssuanceRepository.findByEventIdOrderByCreatedAtDesc(eventId);
+    }
+
+    /**
+     * Puts a failed issuance back in the queue; issuing continues after the last committed page.
+     */
+    @Transactional
+    public TicketIssuance resumeIssuance(UUID eventId, UUID issuanceId) {
+        TicketIssuance issuance = getIssuance(eventId, issuanceId);
+        if (issuance.getStatus() != IssuanceStatus.FAILED) {
+            throw new BadRequestException("Only failed ticket issuances can be resumed");
+        }
+        issuance.setStatus(IssuanceStatus.PENDING);
+        issuance.setLastError(null);
+        issuance.setClaimedBy(null);
+        issuance.setLeaseUntil(null);
+        return ticketIssuanceRepository.save(issuance);
+    }
+
+    @Scheduled(fixedDelayString = "${app.tickets.issue-interval-ms:5000}",
+               initialDelayString = "${app.tickets.issue-interval-ms:5000}")
+    public void processPendingIssuances() {
+        try {
+            List<TicketIssuance> issuances = ticketIssuanceRepository.findByStatusInOrderByCreatedAtAsc(
+                    List.of(IssuanceStatus.PENDING, IssuanceStatus.IN_PROGRESS));
+            for (TicketIssuance issuance : issuances) {
+                processIssuance(issuance.getId());
+            }
+        } catch (Exception e) {
+            logger.error("Error processing ticket issuances", e);
+        }
+    }
+
+    private void processIssuance(UUID issuanceId) {
+        LocalDateTime claimedAt = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status -> ticketIssuanceRepository.claim(
+                issuanceId, processorId, claimedAt.plus(lease), claimedAt));
+        if (claimed == null || claimed == 0) {
+            // Another processor is issuing it
+            return;
+        }
+
+        try {
+            while (Boolean.TRUE.equals(transactionTemplate.execute(status -> issueNextBatch(issuanceId, status)))) {
+                // keep going until a page comes back empty or the lease is lost
+            }
+        } catch (RuntimeException e) {
+            logger.error("Ticket issuance {} failed", issuanceId, e);
+            finish(issuanceId, IssuanceStatus.FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * Issues tickets for the next page; returns {@code false} once the issuance is finished or
+     * another processor has taken it over.
+     */
+    private boolean issueNextBatch(UUID issuanceId, TransactionStatus status) {
+        TicketIssuance issuance = ticketIssuanceRepository.findById(issuanceId).orElse(null);
+        if (issuance == null || !processorId.equals(issuance.getClaimedBy())) {
+            return false;
+        }
+
+        UUID after = issuance.getLastRegistrationId() != null ? issuance.getLastRegistrationId() : FIRST_REGISTRATION_ID;
+        List<UUID> registrationIds = registrationRepository.findUnticketedConfirmedIdsByEventAfter(
+                issuance.getEvent().getId(), after, PageRequest.of(0, batchSize));
+
+        LocalDateTime now = LocalDateTime.now();
+        if (registrationIds.isEmpty()) {
+            ticketIssuanceRepository.finish(issuanceId, processorId, IssuanceStatus.COMPLETED, null, now, now);
+            logger.info("Ticket issuance {} completed: {} ticket(s) in {} batch(es)",
+                    issuanceId, issuance.getIssuedCount(), issuance.getBatchCount());
+            return false;
+        }
+
+        int issued = insertTickets(registrationIds);
+        int recorded = ticketIssuanceRepository.recordBatch(issuanceId, processorId,
+                registrationIds.get(registrationIds.size() - 1), issued, now.plus(lease), now);
+        if (recorded == 0) {
+            logger.warn("Ticket issuance {} lost its lease, leaving it to the processor that took over", issuanceId);
+            status.setRollbackOnly();
+            return false;
+        }
+        return true;
+    }
+
+    private void finish(UUID issuanceId, IssuanceStatus status, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(tx -> ticketIssuanceRepository.finish(issuanceId, processorId, status,
+                error, status == IssuanceStatus.COMPLETED ? now : null, now));
+    }
+
+    private int insertTickets(List<UUID> registrationIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(insertTicketSql, registrationIds, registrationIds.size(),
+                (ps, registrationId) -> {
+                    ps.setObject(1, UUID.randomUUID());
+                    ps.setObject(2, registrationId);
+                    ps.setString(3, ticketNumberAllocator.nextTicketNumber());
+                    ps.setString(4, "QR-" + UUID.randomUUID());
+                    ps.setString(5, TicketStatus.VALID.name());
+                    ps.setTimestamp(6, now);
+                    ps.setTimestamp(7, now);
+                });
+
+        int inserted = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // Some drivers only report that the statement ran, not how many rows it inserted
+                inserted += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+            }
+        }
+        return inserted;
+    }
+}
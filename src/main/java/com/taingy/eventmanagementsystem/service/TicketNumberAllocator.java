@@ -0,0 +1,102 @@
+package com.taingy.eventmanagementsystem.service;
+
+import com.taingy.eventmanagementsystem.config.DatabaseFeatures;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out ticket numbers ({@code TKT-YYYYMMDD-NNNNNN}) with a hi/lo scheme: each node takes a
+ * "hi" value from the {@code ticket_number_seq} database sequence and then issues the
+ * {@link #BLOCK_SIZE} numbers of that block from memory. Numbers are unique across nodes and
+ * restarts without coordination; numbers left in a block when a node stops are skipped.
+ *
+ * The date part is informational only, uniqueness comes from the sequence number.
+ */
+@Component
+public class TicketNumberAllocator {
+
+    private static final Logger logger = LoggerFactory.getLogger(TicketNumberAllocator.class);
+
+    /** Part of the numbering scheme, changing it makes new blocks overlap with issued ones. */
+    static final long BLOCK_SIZE = 1000;
+
+    private static final String SEQUENCE_NAME = "ticket_number_seq";
+    private static final String NEXT_HI_SQL = "SELECT nextval('" + SEQUENCE_NAME + "')";
+    // Starts at 100 so numbers have six digits and never match the older random five-digit ones
+    private static final String CREATE_SEQUENCE_SQL =
+            "CREATE SEQUENCE IF NOT EXISTS " + SEQUENCE_NAME + " START WITH 100 INCREMENT BY 1";
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean createMissingSequence;
+    private final Object refillLock = new Object();
+
+    private volatile Block block = new Block(0, 0);
+
+    public TicketNumberAllocator(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                 DatabaseFeatures databaseFeatures) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // PostgreSQL databases get the sequence from database-schema.sql; only local and test
+        // databases set up without it create it on first use
+        this.createMissingSequence = !databaseFeatures.isPostgres();
+        // Blocks are taken outside the caller's transaction, a failed statement must not abort it
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public String nextTicketNumber() {
+        return "TKT-" + LocalDate.now().format(DATE_FORMAT) + "-" + String.format("%06d", nextValue());
+    }
+
+    long nextValue() {
+        while (true) {
+            Block current = block;
+            long value = current.next.getAndIncrement();
+            if (value < current.end) {
+                return value;
+            }
+            synchronized (refillLock) {
+                if (block == current) {
+                    long hi = nextHi();
+                    block = new Block(hi * BLOCK_SIZE, (hi + 1) * BLOCK_SIZE);
+                }
+            }
+        }
+    }
+
+    private long nextHi() {
+        try {
+            return transactionTemplate.execute(status -> jdbcTemplate.queryForObject(NEXT_HI_SQL, Long.class));
+        } catch (DataAccessException e) {
+            if (!createMissingSequence) {
+                throw e;
+            }
+            logger.warn("Could not read {}, creating it: {}", SEQUENCE_NAME, e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute(CREATE_SEQUENCE_SQL));
+            return transactionTemplate.execute(status -> jdbcTemplate.queryForObject(NEXT_HI_SQL, Long.class));
+        }
+    }
+
+    private static final class Block {
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
@@ -16,10 +16,15 @@ public class TicketService {
 
     private final TicketRepository ticketRepository;
     private final RegistrationRepository registrationRepository;
+    private final TicketNumberAllocator ticketNumberAllocator;
+    private final CheckInService checkInService;
 
-    public TicketService(TicketRepository ticketRepository, RegistrationRepository registrationRepository) {
+    public TicketService(TicketRepository ticketRepository, RegistrationRepository registrationRepository,
+                         TicketNumberAllocator ticketNumberAllocator, CheckInService checkInService) {
         this.ticketRepository = ticketRepository;
         this.registrationRepository = registrationRepository;
+        this.ticketNumberAllocator = ticketNumberAllocator;
+        this.checkInService = checkInService;
     }
 
     public Optional<Ticket> createTicket(UUID registrationId) {
@@ -34,8 +39,8 @@ public class TicketService {
             return existingTicket;
         }
 
-        // Generate unique ticket number (format: TKT-YYYYMMDD-XXXXX)
-        String ticketNumber = generateTicketNumber();
+        // Generate unique ticket number (format: TKT-YYYYMMDD-NNNNNN)
+        String ticketNumber = ticketNumberAllocator.nextTicketNumber();
 
         // Generate unique QR code
         String qrCode = "QR-" + UUID.randomUUID();
@@ -76,17 +81,9 @@ public class TicketService {
         ticket.setStatus(TicketStatus.INVALID);
         // Let @UpdateTimestamp handle timestamp automatically
 
-        return Optional.of(ticketRepository.save(ticket));
-    }
-
-    /**
-     * Generates a unique ticket number in the format: TKT-YYYYMMDD-XXXXX
-     * where XXXXX is a random 5-digit number
-     */
-    private String generateTicketNumber() {
-        String datePart = java.time.LocalDate.now().format(java.time.format.DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String randomPart = String.format("%05d", new Random().nextInt(100000));
-        return "TKT-" + datePart + "-" + randomPart;
+        Ticket saved = ticketRepository.save(ticket);
+        checkInService.revoke(saved.getQrCode());
+        return Optional.of(saved);
     }
 
 }
@@ -1,17 +1,26 @@
 package com.taingy.eventmanagementsystem.service;
 
+import com.taingy.eventmanagementsystem.config.DatabaseFeatures;
 import com.taingy.eventmanagementsystem.enums.Role;
 import com.taingy.eventmanagementsystem.exception.BadRequestException;
 import com.taingy.eventmanagementsystem.exception.ResourceNotFoundException;
 import com.taingy.eventmanagementsystem.model.User;
 import com.taingy.eventmanagementsystem.repository.UserRepository;
+import com.taingy.eventmanagementsystem.security.TokenRevocationCache;
+import com.taingy.eventmanagementsystem.security.UserIdentityCache;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -24,15 +33,53 @@ public class UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private TokenRevocationCache tokenRevocationCache;
+
+    @Autowired
+    private UserIdentityCache userIdentityCache;
+
+    @Autowired
+    private DatabaseFeatures databaseFeatures;
+
+    @Autowired
+    private SummaryService summaryService;
+
+    @Value("${app.search.trigram.enabled:true}")
+    private boolean trigramSearchEnabled;
+
+    // Resolved at startup: trigram search needs PostgreSQL, pg_trgm and the generated search_name column
+    private boolean trigramSearch;
+
     public User createUser(User user) {
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        summaryService.recordUsers(1);
+        return saved;
     }
 
     public List<User> getAllUsers() {
         return userRepository.findAll();
     }
 
+    @PostConstruct
+    void detectTrigramSearch() {
+        trigramSearch = trigramSearchEnabled
+                && databaseFeatures.hasPostgresColumn("users", "search_name")
+                && databaseFeatures.hasPostgresExtension("pg_trgm");
+    }
+
+    /**
+     * Admin user listing. On PostgreSQL a search term is matched through the trigram index and
+     * results are ordered by similarity; elsewhere it is a case-insensitive substring match in the
+     * requested order.
+     */
     public Page<User> getAllUsers(String search, Role role, Pageable pageable) {
+        if (trigramSearch && search != null && !search.isBlank()) {
+            String term = search.trim().toLowerCase(Locale.ROOT);
+            String pattern = "%" + term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+            return userRepository.searchByTrigram(term, pattern, role != null ? role.name() : "",
+                    PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        }
         return userRepository.findBySearchAndRole(search, role, pageable);
     }
 
@@ -44,9 +91,15 @@ public class UserService {
         return userRepository.findByUsername(username);
     }
 
+    @Transactional
     public User updateUser(UUID id, User userDetails) {
         User existingUser = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with ID: " + id));
+        userIdentityCache.invalidate(existingUser.getUsername());
+
+        boolean credentialsChanged = existingUser.getRole() != userDetails.getRole()
+                || !Objects.equals(existingUser.getUsername(), userDetails.getUsername())
+                || (userDetails.getPasswordHash() != null && !userDetails.getPasswordHash().isBlank());
 
         existingUser.setLastName(userDetails.getLastName());
         existingUser.setFirstName(userDetails.getFirstName());
@@ -58,13 +111,30 @@ public class UserService {
             existingUser.setPasswordHash(userDetails.getPasswordHash());
         }
 
+        if (credentialsChanged) {
+            tokenRevocationCache.revokeTokens(existingUser);
+        }
+
         return userRepository.save(existingUser);
     }
 
+    /**
+     * Deletes the user and updates the dashboard count. A concurrent delete of the same user makes
+     * the second flush fail and roll back, so the count is only decremented once.
+     *
+     * @throws ResourceNotFoundException if the user does not exist
+     */
+    @Transactional
     public void deleteUser(UUID id) {
-        userRepository.deleteById(id);
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
+        userRepository.delete(user);
+        summaryService.recordUsers(-1);
+        tokenRevocationCache.invalidate(id);
+        userIdentityCache.invalidate(id);
     }
 
+    @Transactional
     public void resetUserPassword(UUID userId, String newPassword) {
         if (newPassword == null || newPassword.isBlank()) {
             throw new BadRequestException("New password is required");
@@ -74,6 +144,7 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
 
         user.setPasswordHash(passwordEncoder.encode(newPassword));
+        tokenRevocationCache.revokeTokens(user);
         userRepository.save(user);
     }
 }
@@ -1,5 +1,10 @@
 package com.taingy.eventmanagementsystem.util;
 
+import com.taingy.eventmanagementsystem.enums.Role;
+import com.taingy.eventmanagementsystem.exception.ForbiddenException;
+import com.taingy.eventmanagementsystem.exception.UnauthorizedException;
+import com.taingy.eventmanagementsystem.model.User;
+import com.taingy.eventmanagementsystem.service.AuthService;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,5 +23,27 @@ public class AuthUtil {
         }
         return principal.toString();
     }
-}
 
+    /**
+     * Resolves the current user and checks that they are an administrator.
+     *
+     * @throws UnauthorizedException if nobody is signed in or the user no longer exists
+     * @throws ForbiddenException    with {@code forbiddenMessage} if the user is not an administrator
+     */
+    public static User requireAdmin(AuthService authService, String forbiddenMessage) {
+        String username = getCurrentUsername();
+        if (username == null) {
+            throw new UnauthorizedException("Authentication required");
+        }
+
+        User currentUser = authService.getUserByUsername(username);
+        if (currentUser == null) {
+            throw new UnauthorizedException("User not found");
+        }
+
+        if (currentUser.getRole() != Role.ADMIN) {
+            throw new ForbiddenException(forbiddenMessage);
+        }
+        return currentUser;
+    }
+}
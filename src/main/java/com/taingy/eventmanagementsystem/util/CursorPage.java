@@ -0,0 +1,34 @@
+package com.taingy.eventmanagementsystem.util;
+
+import com.taingy.eventmanagementsystem.exception.BadRequestException;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * One page of a {@link PageCursor} listing: the rows to return and the cursor of the next page,
+ * or {@code null} on the last page.
+ */
+public record CursorPage<T>(List<T> rows, int pageSize, boolean hasNext, String nextCursor) {
+
+    /**
+     * Runs {@code query} for one row more than {@code size} to learn whether another page follows,
+     * and builds the next cursor from the last returned row.
+     *
+     * @param query    fetches up to the given number of rows after the requested cursor
+     * @param position the {@code (createdAt, id)} position of a row
+     * @throws BadRequestException if {@code size} is less than 1
+     */
+    public static <T> CursorPage<T> fetch(int size, IntFunction<List<T>> query, Function<T, PageCursor> position) {
+        if (size < 1) {
+            throw new BadRequestException("Page size must be at least 1");
+        }
+        List<T> rows = query.apply(size + 1);
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, size, false, null);
+        }
+        List<T> pageRows = rows.subList(0, size);
+        return new CursorPage<>(pageRows, size, true, position.apply(pageRows.get(size - 1)).encode());
+    }
+}
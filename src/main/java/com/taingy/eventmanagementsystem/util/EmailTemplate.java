@@ -0,0 +1,116 @@
+package com.taingy.eventmanagementsystem.util;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An HTML email template parsed once into literal segments and variable slots.
+ *
+ * Placeholders are written {@code {{name}}} (value is HTML-escaped) or {@code {{{name}}}} (value is
+ * inserted as-is). Values known when the template is compiled, such as the application name, are
+ * bound at compile time and folded into the surrounding literals. Rendering then only appends
+ * segments into a per-thread buffer that is reused across renders, instead of re-parsing a format
+ * string for every email.
+ */
+public final class EmailTemplate {
+
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(8 * 1024));
+
+    private final String[] literals;
+    private final int[] slots;
+    private final boolean[] escaped;
+    private final int literalLength;
+
+    private EmailTemplate(String[] literals, int[] slots, boolean[] escaped) {
+        this.literals = literals;
+        this.slots = slots;
+        this.escaped = escaped;
+        this.literalLength = Arrays.stream(literals).mapToInt(String::length).sum();
+    }
+
+    /**
+     * Compiles {@code source}. Every placeholder must either be bound in {@code constants} or be
+     * listed in {@code variables}; the position in {@code variables} is the argument position for
+     * {@link #render(String...)}.
+     */
+    public static EmailTemplate compile(String source, Map<String, String> constants, String... variables) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        List<Boolean> escaped = new ArrayList<>();
+        List<String> variableNames = Arrays.asList(variables);
+
+        StringBuilder literal = new StringBuilder();
+        int position = 0;
+        while (true) {
+            int open = source.indexOf("{{", position);
+            if (open < 0) {
+                literal.append(source, position, source.length());
+                break;
+            }
+            boolean raw = source.startsWith("{{{", open);
+            String closeToken = raw ? "}}}" : "}}";
+            int nameStart = open + (raw ? 3 : 2);
+            int close = source.indexOf(closeToken, nameStart);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at offset " + open);
+            }
+            String name = source.substring(nameStart, close).trim();
+            literal.append(source, position, open);
+            position = close + closeToken.length();
+
+            if (constants.containsKey(name)) {
+                String value = constants.get(name);
+                literal.append(raw ? value : HtmlUtils.htmlEscape(value));
+                continue;
+            }
+
+            int slot = variableNames.indexOf(name);
+            if (slot < 0) {
+                throw new IllegalArgumentException("Unknown template variable: " + name);
+            }
+            literals.add(literal.toString());
+            literal.setLength(0);
+            slots.add(slot);
+            escaped.add(!raw);
+        }
+        literals.add(literal.toString());
+
+        boolean[] escapedArray = new boolean[escaped.size()];
+        for (int i = 0; i < escapedArray.length; i++) {
+            escapedArray[i] = escaped.get(i);
+        }
+        return new EmailTemplate(literals.toArray(new String[0]),
+                slots.stream().mapToInt(Integer::intValue).toArray(), escapedArray);
+    }
+
+    /**
+     * Renders the template with {@code values} given in the order the variables were declared.
+     * {@code null} values render as empty.
+     */
+    public String render(String... values) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        buffer.ensureCapacity(literalLength + 256);
+
+        for (int i = 0; i < slots.length; i++) {
+            buffer.append(literals[i]);
+            String value = values[slots[i]];
+            if (value != null) {
+                buffer.append(escaped[i] ? HtmlUtils.htmlEscape(value) : value);
+            }
+        }
+        buffer.append(literals[literals.length - 1]);
+
+        String result = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.remove();
+        }
+        return result;
+    }
+}
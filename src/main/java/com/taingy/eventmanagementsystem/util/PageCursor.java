@@ -0,0 +1,56 @@
+package com.taingy.eventmanagementsystem.util;
+
+import com.taingy.eventmanagementsystem.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a newest-first listing ordered by {@code (createdAt, id)}. Listings seek past the
+ * position instead of skipping rows with an offset, so every page costs the same no matter how
+ * deep it is. Clients only ever see the opaque {@link #encode() encoded} form.
+ */
+public record PageCursor(LocalDateTime createdAt, UUID id) {
+
+    // Sorts after every real row, used to fetch the first page with the same seek query
+    private static final PageCursor START = new PageCursor(
+            LocalDateTime.of(9999, 12, 31, 23, 59, 59), new UUID(-1L, -1L));
+
+    /**
+     * Parses the {@code after} request parameter; an empty value starts at the newest row.
+     *
+     * @throws BadRequestException if the cursor was not produced by {@link #encode()}
+     */
+    public static PageCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return START;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf('|');
+            return new PageCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    UUID.fromString(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid page cursor");
+        }
+    }
+
+    /**
+     * Like {@link #decode(String)}, for listings that also accept offset paging parameters. Cursor
+     * mode only walks newest first, so any other requested ordering is rejected.
+     */
+    public static PageCursor decode(String value, String sortBy, String sortDir) {
+        if (!"createdAt".equals(sortBy) || !"desc".equalsIgnoreCase(sortDir)) {
+            throw new BadRequestException("Cursor pagination only supports sortBy=createdAt and sortDir=desc");
+        }
+        return decode(value);
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
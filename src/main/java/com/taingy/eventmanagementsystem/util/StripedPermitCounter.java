@@ -0,0 +1,75 @@
+package com.taingy.eventmanagementsystem.util;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Lock-free permit counter split across several stripes so that concurrent
+ * acquirers mostly CAS on different cache lines instead of a single hot counter.
+ * Each thread starts at its own stripe and only moves on to the others once it is empty.
+ */
+public class StripedPermitCounter {
+
+    // 16 ints = 64 bytes, keeps each stripe on its own cache line
+    private static final int PADDING = 16;
+
+    private final int stripes;
+    private final AtomicIntegerArray cells;
+
+    public StripedPermitCounter(int permits) {
+        this(permits, Runtime.getRuntime().availableProcessors());
+    }
+
+    public StripedPermitCounter(int permits, int stripeHint) {
+        int size = 1;
+        while (size < stripeHint) {
+            size <<= 1;
+        }
+        this.stripes = size;
+        this.cells = new AtomicIntegerArray(size * PADDING);
+        reset(permits);
+    }
+
+    public boolean tryAcquire() {
+        int home = homeStripe();
+        for (int i = 0; i < stripes; i++) {
+            int index = ((home + i) & (stripes - 1)) * PADDING;
+            int current = cells.get(index);
+            while (current > 0) {
+                if (cells.compareAndSet(index, current, current - 1)) {
+                    return true;
+                }
+                current = cells.get(index);
+            }
+        }
+        return false;
+    }
+
+    public void release() {
+        cells.getAndIncrement(homeStripe() * PADDING);
+    }
+
+    public int available() {
+        int total = 0;
+        for (int i = 0; i < stripes; i++) {
+            total += cells.get(i * PADDING);
+        }
+        return total;
+    }
+
+    /**
+     * Redistributes {@code permits} across the stripes. Not atomic with respect to concurrent
+     * acquirers, so callers must tolerate a small overshoot and keep an authoritative check elsewhere.
+     */
+    public void reset(int permits) {
+        int remaining = Math.max(permits, 0);
+        for (int i = 0; i < stripes; i++) {
+            int share = remaining / (stripes - i);
+            cells.set(i * PADDING, share);
+            remaining -= share;
+        }
+    }
+
+    private int homeStripe() {
+        return (int) Thread.currentThread().getId() & (stripes - 1);
+    }
+}
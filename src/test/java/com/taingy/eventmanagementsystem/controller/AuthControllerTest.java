@@ -44,6 +44,9 @@ class AuthControllerTest {
     @MockBean
     private com.taingy.eventmanagementsystem.security.CustomUserDetailsService customUserDetailsService;
 
+    @MockBean
+    private com.taingy.eventmanagementsystem.security.TokenRevocationCache tokenRevocationCache;
+
     @MockBean
     private com.taingy.eventmanagementsystem.repository.UserRepository userRepository;
 
@@ -51,6 +51,9 @@ class CategoryControllerTest {
     @MockBean
     private com.taingy.eventmanagementsystem.security.CustomUserDetailsService customUserDetailsService;
 
+    @MockBean
+    private com.taingy.eventmanagementsystem.security.TokenRevocationCache tokenRevocationCache;
+
     @MockBean
     private com.taingy.eventmanagementsystem.repository.UserRepository userRepository;
 
@@ -143,16 +146,26 @@ class CategoryControllerTest {
     @Test
     @WithMockUser
     void getAllCategories_Success() throws Exception {
-        List<Category> categories = Arrays.asList(testCategory);
-        when(categoryService.getAllCategories()).thenReturn(categories);
-        when(categoryMapper.toResponseDTO(any(Category.class))).thenReturn(testCategoryResponseDTO);
+        when(categoryService.getCatalog()).thenReturn(catalog());
 
         mockMvc.perform(get("/api/categories"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc123\""))
                 .andExpect(jsonPath("$.categories", hasSize(1)))
                 .andExpect(jsonPath("$.categories[0].name").value("Technology"));
     }
 
+    @Test
+    @WithMockUser
+    void getAllCategories_NotModified_WhenETagMatches() throws Exception {
+        when(categoryService.getCatalog()).thenReturn(catalog());
+
+        mockMvc.perform(get("/api/categories").header("If-None-Match", "\"abc123\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"abc123\""))
+                .andExpect(content().string(""));
+    }
+
     @Test
     @WithMockUser
     void getCategoryById_Success() throws Exception {
@@ -255,4 +268,10 @@ class CategoryControllerTest {
                         .with(csrf()))
                 .andExpect(status().isNotFound());
     }
+
+    private CategoryService.Catalog catalog() throws Exception {
+        List<CategoryResponseDTO> categories = List.of(testCategoryResponseDTO);
+        byte[] body = objectMapper.writeValueAsBytes(Map.of("categories", categories));
+        return new CategoryService.Catalog(categories, body, "\"abc123\"");
+    }
 }
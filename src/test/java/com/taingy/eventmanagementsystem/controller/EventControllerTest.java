@@ -3,8 +3,11 @@ package com.taingy.eventmanagementsystem.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.taingy.eventmanagementsystem.dto.EventRequestDTO;
 import com.taingy.eventmanagementsystem.dto.EventResponseDTO;
+import com.taingy.eventmanagementsystem.dto.EventSummary;
+import com.taingy.eventmanagementsystem.dto.RegistrationSummary;
 import com.taingy.eventmanagementsystem.enums.EventStatus;
 import com.taingy.eventmanagementsystem.enums.Role;
+import com.taingy.eventmanagementsystem.exception.ResourceNotFoundException;
 import com.taingy.eventmanagementsystem.mapper.EventMapper;
 import com.taingy.eventmanagementsystem.mapper.RegistrationMapper;
 import com.taingy.eventmanagementsystem.model.Category;
@@ -13,6 +16,7 @@ import com.taingy.eventmanagementsystem.model.User;
 import com.taingy.eventmanagementsystem.service.AuthService;
 import com.taingy.eventmanagementsystem.service.CategoryService;
 import com.taingy.eventmanagementsystem.service.EventService;
+import com.taingy.eventmanagementsystem.service.FlashSaleService;
 import com.taingy.eventmanagementsystem.service.RegistrationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -66,12 +70,18 @@ class EventControllerTest {
     @MockBean
     private RegistrationMapper registrationMapper;
 
+    @MockBean
+    private FlashSaleService flashSaleService;
+
     @MockBean
     private com.taingy.eventmanagementsystem.security.JwtUtil jwtUtil;
 
     @MockBean
     private com.taingy.eventmanagementsystem.security.CustomUserDetailsService customUserDetailsService;
 
+    @MockBean
+    private com.taingy.eventmanagementsystem.security.TokenRevocationCache tokenRevocationCache;
+
     @MockBean
     private com.taingy.eventmanagementsystem.repository.UserRepository userRepository;
 
@@ -211,12 +221,11 @@ class EventControllerTest {
     @WithMockUser
     void getAllEvents_Success() throws Exception {
         // Arrange
-        List<Event> events = Arrays.asList(testEvent);
-        Page<Event> eventPage = new PageImpl<>(events);
+        Page<EventSummary> eventPage = new PageImpl<>(List.of(testEventSummary()));
 
-        when(eventService.getAllEvents(any(Pageable.class))).thenReturn(eventPage);
-        when(eventMapper.toResponseDTO(any(Event.class), anyBoolean())).thenReturn(testEventResponseDTO);
-        when(registrationService.getRegisteredEventIdsForUser(any())).thenReturn(new HashSet<>());
+        when(eventService.searchEvents(any(), any(), any(), any(Pageable.class))).thenReturn(eventPage);
+        when(eventMapper.summariesToResponseDTOs(anyList(), anySet())).thenReturn(List.of(testEventResponseDTO));
+        when(registrationService.getRegisteredEventIdsForUser(any(), any())).thenReturn(new HashSet<>());
 
         // Act & Assert
         mockMvc.perform(get("/api/events")
@@ -234,12 +243,11 @@ class EventControllerTest {
     @WithMockUser
     void getAllEvents_WithSearchAndCategory() throws Exception {
         // Arrange
-        List<Event> events = Arrays.asList(testEvent);
-        Page<Event> eventPage = new PageImpl<>(events);
+        Page<EventSummary> eventPage = new PageImpl<>(List.of(testEventSummary()));
 
         when(eventService.searchEvents(eq("Test"), eq(EventStatus.ACTIVE), eq(1), any(Pageable.class))).thenReturn(eventPage);
-        when(eventMapper.toResponseDTO(any(Event.class), anyBoolean())).thenReturn(testEventResponseDTO);
-        when(registrationService.getRegisteredEventIdsForUser(any())).thenReturn(new HashSet<>());
+        when(eventMapper.summariesToResponseDTOs(anyList(), anySet())).thenReturn(List.of(testEventResponseDTO));
+        when(registrationService.getRegisteredEventIdsForUser(any(), any())).thenReturn(new HashSet<>());
 
         // Act & Assert
         mockMvc.perform(get("/api/events")
@@ -385,9 +393,7 @@ class EventControllerTest {
     @WithMockUser
     void getEventRegistrations_Success() throws Exception {
         // Arrange
-        when(eventService.getEventById(testEvent.getId())).thenReturn(Optional.of(testEvent));
-        Page<com.taingy.eventmanagementsystem.model.Registration> registrationPage =
-                new PageImpl<>(new ArrayList<>());
+        Page<RegistrationSummary> registrationPage = new PageImpl<>(new ArrayList<>());
         when(registrationService.getRegistrationsByEvent(eq(testEvent.getId()), any(Pageable.class)))
                 .thenReturn(registrationPage);
 
@@ -406,10 +412,50 @@ class EventControllerTest {
     void getEventRegistrations_EventNotFound() throws Exception {
         // Arrange
         UUID nonExistentId = UUID.randomUUID();
-        when(eventService.getEventById(nonExistentId)).thenReturn(Optional.empty());
+        when(registrationService.getRegistrationsByEvent(eq(nonExistentId), any(Pageable.class)))
+                .thenThrow(new ResourceNotFoundException("Event", "id", nonExistentId));
 
         // Act & Assert
         mockMvc.perform(get("/api/events/{id}/registrations", nonExistentId))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void openFlashSale_Success_WhenAdmin() throws Exception {
+        // Arrange
+        when(authService.getUserByUsername("admin")).thenReturn(adminUser);
+        when(flashSaleService.openFlashSale(testEvent.getId())).thenReturn(100);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/events/{id}/flash-sale", testEvent.getId())
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.flashSale").value(true))
+                .andExpect(jsonPath("$.availablePermits").value(100));
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    void openFlashSale_Forbidden_WhenNotAdmin() throws Exception {
+        // Arrange
+        when(authService.getUserByUsername("user")).thenReturn(regularUser);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/events/{id}/flash-sale", testEvent.getId())
+                        .with(csrf()))
+                .andExpect(status().isForbidden());
+
+        verify(flashSaleService, never()).openFlashSale(any(UUID.class));
+    }
+
+    private EventSummary testEventSummary() {
+        return new EventSummary(testEvent.getId(), testEvent.getTitle(), testEvent.getDescription(),
+                testEvent.getLocation(), testEvent.getEventDate(), testEvent.getStartTime(), testEvent.getEndTime(),
+                testEvent.getPrice(), testEvent.getCapacity(), 0, testEvent.getStatus(),
+                testEvent.getCreatedAt(), testEvent.getUpdatedAt(),
+                testCategory.getId(), testCategory.getName(), null,
+                adminUser.getId(), adminUser.getUsername(), adminUser.getEmail(), null, null, adminUser.getRole(),
+                null, null);
+    }
 }
@@ -3,6 +3,7 @@ package com.taingy.eventmanagementsystem.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.taingy.eventmanagementsystem.dto.RegistrationRequestDTO;
 import com.taingy.eventmanagementsystem.dto.RegistrationResponseDTO;
+import com.taingy.eventmanagementsystem.dto.RegistrationSummary;
 import com.taingy.eventmanagementsystem.dto.RegistrationUpdateDTO;
 import com.taingy.eventmanagementsystem.enums.RegistrationStatus;
 import com.taingy.eventmanagementsystem.mapper.RegistrationMapper;
@@ -28,6 +29,8 @@ import java.util.*;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -58,6 +61,9 @@ class RegistrationControllerTest {
     @MockBean
     private com.taingy.eventmanagementsystem.security.CustomUserDetailsService customUserDetailsService;
 
+    @MockBean
+    private com.taingy.eventmanagementsystem.security.TokenRevocationCache tokenRevocationCache;
+
     @MockBean
     private com.taingy.eventmanagementsystem.repository.UserRepository userRepository;
 
@@ -201,13 +207,15 @@ class RegistrationControllerTest {
     @Test
     @WithMockUser
     void getByUser_Success() throws Exception {
-        List<Registration> registrations = Collections.singletonList(testRegistration);
-        Page<Registration> registrationPage = new PageImpl<>(registrations);
+        RegistrationSummary summary = new RegistrationSummary(testRegistration.getId(), testEvent.getId(),
+                RegistrationStatus.CONFIRMED, null, LocalDateTime.now(), LocalDateTime.now(),
+                testUser.getId(), testUser.getUsername(), testUser.getEmail(), null, null, null, null, null);
+        Page<RegistrationSummary> registrationPage = new PageImpl<>(List.of(summary));
 
         when(registrationService.getRegistrationsByUser(eq(testUser.getId()), any(Pageable.class)))
                 .thenReturn(registrationPage);
-        when(registrationMapper.toResponseDTO(any(Registration.class)))
-                .thenReturn(testRegistrationResponseDTO);
+        when(registrationMapper.toResponseDTOs(anyList(), anyMap()))
+                .thenReturn(List.of(testRegistrationResponseDTO));
 
         mockMvc.perform(get("/api/registrations/user/{userId}", testUser.getId())
                         .param("page", "0")
@@ -5,6 +5,7 @@ import com.taingy.eventmanagementsystem.dto.AuthRequests;
 import com.taingy.eventmanagementsystem.dto.UserRequestDTO;
 import com.taingy.eventmanagementsystem.dto.UserResponseDTO;
 import com.taingy.eventmanagementsystem.enums.Role;
+import com.taingy.eventmanagementsystem.exception.ResourceNotFoundException;
 import com.taingy.eventmanagementsystem.mapper.UserMapper;
 import com.taingy.eventmanagementsystem.model.User;
 import com.taingy.eventmanagementsystem.service.AuthService;
@@ -56,6 +57,9 @@ class UserControllerTest {
     @MockBean
     private com.taingy.eventmanagementsystem.security.CustomUserDetailsService customUserDetailsService;
 
+    @MockBean
+    private com.taingy.eventmanagementsystem.security.TokenRevocationCache tokenRevocationCache;
+
     @MockBean
     private com.taingy.eventmanagementsystem.repository.UserRepository userRepository;
 
@@ -198,7 +202,6 @@ class UserControllerTest {
     @Test
     @WithMockUser
     void deleteUser_Success() throws Exception {
-        when(userService.getUserById(testUser.getId())).thenReturn(Optional.of(testUser));
         doNothing().when(userService).deleteUser(testUser.getId());
 
         mockMvc.perform(delete("/api/users/{id}", testUser.getId())
@@ -212,7 +215,8 @@ class UserControllerTest {
     @WithMockUser
     void deleteUser_NotFound() throws Exception {
         UUID nonExistentId = UUID.randomUUID();
-        when(userService.getUserById(nonExistentId)).thenReturn(Optional.empty());
+        doThrow(new ResourceNotFoundException("User", "id", nonExistentId))
+                .when(userService).deleteUser(nonExistentId);
 
         mockMvc.perform(delete("/api/users/{id}", nonExistentId)
                         .with(csrf()))
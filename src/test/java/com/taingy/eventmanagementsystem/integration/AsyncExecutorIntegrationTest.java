@@ -0,0 +1,94 @@
+package com.taingy.eventmanagementsystem.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AsyncExecutorIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private ThreadPoolTaskExecutor taskExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void taskExecutor_IsBoundedAndInstrumented() throws Exception {
+        assertEquals(500, taskExecutor.getQueueCapacity());
+
+        long executedBefore = meterRegistry.get("app.async.executor.execution").timer().count();
+        String threadName = CompletableFuture
+                .supplyAsync(() -> Thread.currentThread().getName(), taskExecutor)
+                .get(5, TimeUnit.SECONDS);
+
+        assertTrue(threadName.startsWith("async-"));
+        assertNotNull(meterRegistry.find("app.async.executor.queue.size").gauge());
+        assertNotNull(meterRegistry.find("app.async.executor.active").gauge());
+        assertNotNull(meterRegistry.find("app.async.executor.queue.wait").timer());
+        // The timer is recorded after the task body returns, so give it a moment
+        long deadline = System.currentTimeMillis() + 2000;
+        while (meterRegistry.get("app.async.executor.execution").timer().count() == executedBefore
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(meterRegistry.get("app.async.executor.execution").timer().count() > executedBefore);
+    }
+
+    @Test
+    void taskExecutorGauges_FollowRunningAndQueuedTasks() throws Exception {
+        int busy = taskExecutor.getCorePoolSize();
+        CountDownLatch started = new CountDownLatch(busy);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<?>> tasks = new ArrayList<>();
+        try {
+            // Fill every core thread, then queue two more behind them
+            for (int i = 0; i < busy + 2; i++) {
+                tasks.add(taskExecutor.submit(() -> {
+                    started.countDown();
+                    release.await();
+                    return null;
+                }));
+            }
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            assertTrue(gauge("app.async.executor.active") >= busy);
+            assertTrue(gauge("app.async.executor.queue.size") >= 2);
+            assertTrue(gauge("app.async.executor.pool.size") >= busy);
+            assertTrue(gauge("app.async.executor.queue.remaining") <= taskExecutor.getQueueCapacity() - 2);
+        } finally {
+            release.countDown();
+        }
+        for (Future<?> task : tasks) {
+            task.get(5, TimeUnit.SECONDS);
+        }
+
+        long deadline = System.currentTimeMillis() + 2000;
+        while (gauge("app.async.executor.active") > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0.0, gauge("app.async.executor.active"));
+        assertEquals(0.0, gauge("app.async.executor.queue.size"));
+    }
+
+    @Test
+    void actuatorMetrics_RequireAuthentication() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isForbidden());
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+}
@@ -0,0 +1,181 @@
+package com.taingy.eventmanagementsystem.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.taingy.eventmanagementsystem.enums.ExportFormat;
+import com.taingy.eventmanagementsystem.enums.RegistrationStatus;
+import com.taingy.eventmanagementsystem.enums.Role;
+import com.taingy.eventmanagementsystem.model.Event;
+import com.taingy.eventmanagementsystem.model.Registration;
+import com.taingy.eventmanagementsystem.repository.EventRepository;
+import com.taingy.eventmanagementsystem.repository.RegistrationRepository;
+import com.taingy.eventmanagementsystem.repository.UserRepository;
+import com.taingy.eventmanagementsystem.service.AttendeeExportService;
+import com.taingy.eventmanagementsystem.service.EmailService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the streaming attendee export. Not transactional: the rows are written
+ * on the async request thread, which only sees committed data.
+ */
+class AttendeeExportIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AttendeeExportService attendeeExportService;
+
+    @MockBean
+    private EmailService emailService;
+
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        createUser("admin", Role.ADMIN);
+
+        event = createEvent("Export Event");
+
+        createRegistration(event, "attendee0", RegistrationStatus.CANCELLED);
+        Registration withNote = createRegistration(event, "attendee1", RegistrationStatus.CONFIRMED);
+        withNote.setNote("Needs \"wheelchair\" access, row 1");
+        registrationRepository.save(withNote);
+        createRegistration(event, "attendee2", RegistrationStatus.CONFIRMED);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void exportAttendees_Csv_WritesHeaderAndEscapedRows() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/events/{eventId}/attendees/export", event.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString(".csv")))
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> lines = Arrays.asList(body.split("\r\n"));
+        assertEquals(4, lines.size());
+        assertEquals("registration_id,status,note,registered_at,user_id,username,email,first_name,last_name",
+                lines.get(0));
+        assertEquals(1, lines.stream()
+                .filter(line -> line.contains(",\"Needs \"\"wheelchair\"\" access, row 1\","))
+                .count());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void exportAttendees_Ndjson_WritesOneObjectPerLine() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/events/{eventId}/attendees/export", event.getId())
+                        .param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        Set<String> usernames = new HashSet<>();
+        for (String line : body.split("\n")) {
+            JsonNode row = objectMapper.readTree(line);
+            usernames.add(row.get("username").asText());
+        }
+        assertEquals(Set.of("attendee0", "attendee1", "attendee2"), usernames);
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void exportAttendees_RejectsUnknownEventAndFormat() throws Exception {
+        mockMvc.perform(get("/api/events/{eventId}/attendees/export", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/api/events/{eventId}/attendees/export", event.getId()).param("format", "xlsx"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void exportAttendees_Csv_NeutralizesFormulas() throws Exception {
+        Registration registration = createRegistration(event, "attendee3", RegistrationStatus.CONFIRMED);
+        registration.setNote("=HYPERLINK(\"http://evil.example\",\"x\")");
+        registrationRepository.save(registration);
+
+        MvcResult result = mockMvc.perform(get("/api/events/{eventId}/attendees/export", event.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(body.contains(",\"'=HYPERLINK(\"\"http://evil.example\"\",\"\"x\"\")\","));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void exportAttendees_TooManyRequests_WhenAllSlotsAreTaken() throws Exception {
+        attendeeExportService.reserveExport();
+        attendeeExportService.reserveExport();
+        try {
+            mockMvc.perform(get("/api/events/{eventId}/attendees/export", event.getId()))
+                    .andExpect(status().isTooManyRequests());
+        } finally {
+            // Finishing an export gives its slot back
+            attendeeExportService.writeAttendees(event.getId(), ExportFormat.CSV, OutputStream.nullOutputStream());
+            attendeeExportService.writeAttendees(event.getId(), ExportFormat.CSV, OutputStream.nullOutputStream());
+        }
+
+        MvcResult result = mockMvc.perform(get("/api/events/{eventId}/attendees/export", event.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(username = "attendee1", roles = {"USER"})
+    void exportAttendees_Forbidden_WhenNotAdmin() throws Exception {
+        mockMvc.perform(get("/api/events/{eventId}/attendees/export", event.getId()))
+                .andExpect(status().isForbidden());
+    }
+
+    private void cleanUp() {
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+}
@@ -1,10 +1,20 @@
 package com.taingy.eventmanagementsystem.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taingy.eventmanagementsystem.enums.EventStatus;
+import com.taingy.eventmanagementsystem.enums.RegistrationStatus;
+import com.taingy.eventmanagementsystem.enums.Role;
+import com.taingy.eventmanagementsystem.model.Event;
+import com.taingy.eventmanagementsystem.model.Registration;
+import com.taingy.eventmanagementsystem.model.User;
+import com.taingy.eventmanagementsystem.repository.EventRepository;
+import com.taingy.eventmanagementsystem.repository.RegistrationRepository;
+import com.taingy.eventmanagementsystem.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -13,7 +23,7 @@ import org.springframework.test.web.servlet.MockMvc;
  * - H2 in-memory database (configured in application-test.properties)
  * - Full Spring Boot application context
  * - MockMvc for HTTP testing
- * - Shared test configuration
+ * - Shared test configuration and fixture helpers
  *
  * NOTE: This uses H2 in-memory database for faster tests that don't require Docker.
  * For production-like testing with PostgreSQL, consider using Testcontainers
@@ -30,8 +40,48 @@ public abstract class BaseIntegrationTest {
     @Autowired
     protected ObjectMapper objectMapper;
 
+    @Autowired
+    private UserRepository fixtureUserRepository;
+
+    @Autowired
+    private EventRepository fixtureEventRepository;
+
+    @Autowired
+    private RegistrationRepository fixtureRegistrationRepository;
+
+    @Autowired
+    private PasswordEncoder fixturePasswordEncoder;
+
     @BeforeEach
     void baseSetUp() {
 
     }
+
+    /** Saves a user with password {@code password123} and email {@code <username>@test.com}. */
+    protected User createUser(String username, Role role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@test.com");
+        user.setFirstName(username);
+        user.setLastName("Test");
+        user.setPasswordHash(fixturePasswordEncoder.encode("password123"));
+        user.setRole(role);
+        return fixtureUserRepository.save(user);
+    }
+
+    protected Event createEvent(String title) {
+        Event event = new Event();
+        event.setTitle(title);
+        event.setStatus(EventStatus.ACTIVE);
+        return fixtureEventRepository.save(event);
+    }
+
+    /** Registers a new attendee {@code username} for the event with the given status. */
+    protected Registration createRegistration(Event event, String username, RegistrationStatus status) {
+        Registration registration = new Registration();
+        registration.setEvent(event);
+        registration.setUser(createUser(username, Role.USER));
+        registration.setStatus(status);
+        return fixtureRegistrationRepository.save(registration);
+    }
 }
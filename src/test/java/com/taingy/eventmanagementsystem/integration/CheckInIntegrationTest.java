@@ -0,0 +1,212 @@
+package com.taingy.eventmanagementsystem.integration;
+
+import com.taingy.eventmanagementsystem.dto.CheckInScanRequest;
+import com.taingy.eventmanagementsystem.dto.CheckInStatus;
+import com.taingy.eventmanagementsystem.enums.CheckInResult;
+import com.taingy.eventmanagementsystem.enums.RegistrationStatus;
+import com.taingy.eventmanagementsystem.enums.Role;
+import com.taingy.eventmanagementsystem.enums.TicketStatus;
+import com.taingy.eventmanagementsystem.exception.BadRequestException;
+import com.taingy.eventmanagementsystem.model.Event;
+import com.taingy.eventmanagementsystem.model.Registration;
+import com.taingy.eventmanagementsystem.model.Ticket;
+import com.taingy.eventmanagementsystem.repository.EventRepository;
+import com.taingy.eventmanagementsystem.repository.RegistrationRepository;
+import com.taingy.eventmanagementsystem.repository.TicketRepository;
+import com.taingy.eventmanagementsystem.repository.UserRepository;
+import com.taingy.eventmanagementsystem.service.CheckInService;
+import com.taingy.eventmanagementsystem.service.TicketService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for door check-in: scans are validated against the in-memory index and
+ * admitted tickets reach the database as USED once flushed.
+ */
+class CheckInIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private CheckInService checkInService;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Event event;
+    private final List<Ticket> tickets = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        createUser("admin", Role.ADMIN);
+
+        event = createEvent("Check-in Event");
+
+        tickets.clear();
+        for (int i = 0; i < 3; i++) {
+            tickets.add(issueTicket("attendee" + i));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        try {
+            checkInService.close(event.getId());
+        } catch (BadRequestException e) {
+            // not open
+        }
+        cleanUp();
+    }
+
+    @Test
+    void scan_AdmitsEachTicketOnceAndFlushesUsedStatus() {
+        CheckInStatus opened = checkInService.open(event.getId());
+        assertEquals(3, opened.tickets());
+
+        String qrCode = tickets.get(0).getQrCode();
+        assertEquals(CheckInResult.ADMITTED, checkInService.scan(event.getId(), qrCode));
+        assertEquals(CheckInResult.ALREADY_CHECKED_IN, checkInService.scan(event.getId(), qrCode));
+        assertEquals(CheckInResult.NOT_FOUND, checkInService.scan(event.getId(), "QR-not-a-ticket"));
+
+        // Admission is in memory until the next flush
+        assertEquals(TicketStatus.VALID, ticketRepository.findByQrCode(qrCode).orElseThrow().getStatus());
+        assertEquals(1, checkInService.getStatus(event.getId()).pendingFlush());
+
+        checkInService.flushCheckIns();
+
+        assertEquals(TicketStatus.USED, ticketRepository.findByQrCode(qrCode).orElseThrow().getStatus());
+        assertEquals(TicketStatus.VALID, ticketRepository.findByQrCode(tickets.get(1).getQrCode()).orElseThrow().getStatus());
+        CheckInStatus status = checkInService.getStatus(event.getId());
+        assertEquals(1, status.checkedIn());
+        assertEquals(0, status.pendingFlush());
+    }
+
+    @Test
+    void scan_FollowsTicketsIssuedOrInvalidatedAfterOpening() {
+        checkInService.open(event.getId());
+
+        Ticket late = issueTicket("late");
+        assertEquals(CheckInResult.ADMITTED, checkInService.scan(event.getId(), late.getQrCode()));
+        assertEquals(TicketStatus.USED, ticketRepository.findByQrCode(late.getQrCode()).orElseThrow().getStatus());
+        assertEquals(CheckInResult.ALREADY_CHECKED_IN, checkInService.scan(event.getId(), late.getQrCode()));
+
+        ticketService.invalidateTicket(tickets.get(1).getId());
+        assertEquals(CheckInResult.NOT_VALID, checkInService.scan(event.getId(), tickets.get(1).getQrCode()));
+    }
+
+    @Test
+    void close_SavesPendingCheckIns() {
+        checkInService.open(event.getId());
+        checkInService.scan(event.getId(), tickets.get(2).getQrCode());
+
+        CheckInStatus closed = checkInService.close(event.getId());
+
+        assertEquals(1, closed.checkedIn());
+        assertEquals(TicketStatus.USED, ticketRepository.findByQrCode(tickets.get(2).getQrCode()).orElseThrow().getStatus());
+        assertThrows(BadRequestException.class, () -> checkInService.scan(event.getId(), tickets.get(0).getQrCode()));
+    }
+
+    @Test
+    void close_SavesTicketsAdmittedWhileClosing() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            tickets.add(issueTicket("crowd" + i));
+        }
+        checkInService.open(event.getId());
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<List<String>>> doors = new ArrayList<>();
+            for (int door = 0; door < 2; door++) {
+                int offset = door;
+                doors.add(executor.submit(() -> {
+                    List<String> admitted = new ArrayList<>();
+                    for (int i = offset; i < tickets.size(); i += 2) {
+                        String qrCode = tickets.get(i).getQrCode();
+                        try {
+                            if (checkInService.scan(event.getId(), qrCode) == CheckInResult.ADMITTED) {
+                                admitted.add(qrCode);
+                            }
+                        } catch (BadRequestException e) {
+                            break;
+                        }
+                    }
+                    return admitted;
+                }));
+            }
+            Thread.sleep(5);
+            CheckInStatus closed = checkInService.close(event.getId());
+
+            int admitted = 0;
+            for (Future<List<String>> door : doors) {
+                for (String qrCode : door.get()) {
+                    assertEquals(TicketStatus.USED, ticketRepository.findByQrCode(qrCode).orElseThrow().getStatus());
+                    admitted++;
+                }
+            }
+            assertEquals(admitted, closed.checkedIn());
+            assertEquals(0, closed.pendingFlush());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void scanEndpoint_ReportsResult() throws Exception {
+        mockMvc.perform(post("/api/events/{eventId}/check-in", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tickets").value(3));
+
+        mockMvc.perform(post("/api/events/{eventId}/check-in/scan", event.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CheckInScanRequest(tickets.get(0).getQrCode()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result").value("ADMITTED"))
+                .andExpect(jsonPath("$.admitted").value(true));
+    }
+
+    @Test
+    @WithMockUser(username = "attendee0", roles = {"USER"})
+    void openEndpoint_Forbidden_WhenNotAdmin() throws Exception {
+        mockMvc.perform(post("/api/events/{eventId}/check-in", event.getId()))
+                .andExpect(status().isForbidden());
+    }
+
+    private Ticket issueTicket(String username) {
+        Registration registration = createRegistration(event, username, RegistrationStatus.CONFIRMED);
+        return ticketService.createTicket(registration.getId()).orElseThrow();
+    }
+
+    private void cleanUp() {
+        ticketRepository.deleteAll();
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+}
@@ -1,14 +1,21 @@
 package com.taingy.eventmanagementsystem.integration;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.taingy.eventmanagementsystem.dto.EventRequestDTO;
 import com.taingy.eventmanagementsystem.enums.EventStatus;
+import com.taingy.eventmanagementsystem.enums.RegistrationStatus;
 import com.taingy.eventmanagementsystem.enums.Role;
 import com.taingy.eventmanagementsystem.model.Category;
 import com.taingy.eventmanagementsystem.model.Event;
+import com.taingy.eventmanagementsystem.model.Registration;
 import com.taingy.eventmanagementsystem.model.User;
 import com.taingy.eventmanagementsystem.repository.CategoryRepository;
 import com.taingy.eventmanagementsystem.repository.EventRepository;
+import com.taingy.eventmanagementsystem.repository.RegistrationRepository;
 import com.taingy.eventmanagementsystem.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,9 +26,15 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -42,9 +55,15 @@ class EventControllerIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private User adminUser;
     private User regularUser;
     private Category testCategory;
@@ -53,6 +72,7 @@ class EventControllerIntegrationTest extends BaseIntegrationTest {
     @BeforeEach
     void setUp() {
         // Clean up
+        registrationRepository.deleteAll();
         eventRepository.deleteAll();
         userRepository.deleteAll();
         categoryRepository.deleteAll();
@@ -191,6 +211,48 @@ class EventControllerIntegrationTest extends BaseIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @WithMockUser
+    void getEventById_NotModified_UsesVersionQueryOnly() throws Exception {
+        String etag = mockMvc.perform(get("/api/events/{id}", testEvent.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            mockMvc.perform(get("/api/events/{id}", testEvent.getId()).header("If-None-Match", etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", etag))
+                    .andExpect(content().string(""));
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertEquals(0, statistics.getEntityLoadCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    @WithMockUser
+    void getEventById_ReturnsNewETag_WhenRegistrationCountChanges() throws Exception {
+        String etag = mockMvc.perform(get("/api/events/{id}", testEvent.getId()))
+                .andReturn().getResponse().getHeader("ETag");
+
+        eventRepository.incrementRegisteredCount(testEvent.getId());
+        entityManager.clear();
+
+        mockMvc.perform(get("/api/events/{id}", testEvent.getId()).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$.availableSeats").value(99));
+    }
+
     @Test
     @WithMockUser(username = "admin", roles = {"ADMIN"})
     void updateEvent_Success_WhenAdmin() throws Exception {
@@ -309,4 +371,182 @@ class EventControllerIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.events", hasSize(1)))
                 .andExpect(jsonPath("$.events[0].title").value("Test Event"));
     }
+
+    @Test
+    @WithMockUser(username = "user")
+    void getAllEvents_StatementCountDoesNotGrowWithPageSize() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            Event event = new Event();
+            event.setTitle("Bulk Event " + i);
+            event.setCapacity(10);
+            event.setStatus(EventStatus.ACTIVE);
+            event.setCategory(testCategory);
+            event.setOrganizer(i % 2 == 0 ? adminUser : regularUser);
+            event = eventRepository.save(event);
+
+            if (i % 3 == 0) {
+                Registration registration = new Registration();
+                registration.setEvent(event);
+                registration.setUser(regularUser);
+                registration.setStatus(RegistrationStatus.CONFIRMED);
+                registrationRepository.save(registration);
+            }
+        }
+
+        long smallPageStatements = countStatementsForEventPage(5);
+        long largePageStatements = countStatementsForEventPage(20);
+
+        assertEquals(smallPageStatements, largePageStatements);
+    }
+
+    @Test
+    @WithMockUser(username = "user")
+    void getAllEvents_ReadsProjectionsWithoutLoadingEventEntities() throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            mockMvc.perform(get("/api/events"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.events[0].title").value("Test Event"))
+                    .andExpect(jsonPath("$.events[0].category.name").value(testCategory.getName()))
+                    .andExpect(jsonPath("$.events[0].organizer.username").value(adminUser.getUsername()));
+
+            assertEquals(0, statistics.getEntityStatistics(Event.class.getName()).getLoadCount());
+            assertEquals(0, statistics.getEntityStatistics(Category.class.getName()).getLoadCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    @WithMockUser(username = "user")
+    void getAllEvents_MarksRegisteredEventsOnPageWithoutLoadingRegistrations() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            Event event = new Event();
+            event.setTitle("Registered Event " + i);
+            event.setCapacity(10);
+            event.setStatus(EventStatus.ACTIVE);
+            event.setCategory(testCategory);
+            event.setOrganizer(adminUser);
+            event = eventRepository.save(event);
+
+            Registration registration = new Registration();
+            registration.setEvent(event);
+            registration.setUser(regularUser);
+            registration.setStatus(i == 0 ? RegistrationStatus.CANCELLED : RegistrationStatus.CONFIRMED);
+            registrationRepository.save(registration);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            mockMvc.perform(get("/api/events").param("size", "20"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.events", hasSize(11)))
+                    .andExpect(jsonPath("$.events[?(@.registered == true)]", hasSize(9)))
+                    .andExpect(jsonPath("$.events[?(@.title == 'Registered Event 0')].registered").value(contains(false)))
+                    .andExpect(jsonPath("$.events[?(@.title == 'Test Event')].registered").value(contains(false)));
+
+            assertEquals(0, statistics.getEntityStatistics(Registration.class.getName()).getLoadCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    @WithMockUser(username = "user")
+    void getAllEvents_CursorMode_WalksEveryEventOnceWithConstantCost() throws Exception {
+        for (int i = 0; i < 24; i++) {
+            Event event = new Event();
+            event.setTitle("Cursor Event " + i);
+            event.setStatus(EventStatus.ACTIVE);
+            event.setCategory(testCategory);
+            event.setOrganizer(adminUser);
+            eventRepository.save(event);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        Set<String> seen = new HashSet<>();
+        List<Long> statementsPerPage = new ArrayList<>();
+        String cursor = "";
+        boolean hasNext = true;
+        statistics.setStatisticsEnabled(true);
+        try {
+            while (hasNext) {
+                statistics.clear();
+                String body = mockMvc.perform(get("/api/events").param("size", "10").param("after", cursor))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.totalItems").doesNotExist())
+                        .andReturn().getResponse().getContentAsString();
+                statementsPerPage.add(statistics.getPrepareStatementCount());
+
+                JsonNode page = objectMapper.readTree(body);
+                page.get("events").forEach(event -> assertTrue(seen.add(event.get("id").asText())));
+                hasNext = page.get("hasNext").asBoolean();
+                cursor = page.get("nextCursor").asText();
+            }
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        assertEquals(25, seen.size());
+        assertEquals(3, statementsPerPage.size());
+        assertEquals(statementsPerPage.get(0), statementsPerPage.get(2));
+    }
+
+    @Test
+    @WithMockUser
+    void getAllEvents_CursorMode_RejectsInvalidCursorAndOrdering() throws Exception {
+        mockMvc.perform(get("/api/events").param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/events").param("after", "").param("sortDir", "asc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void getAllEvents_CursorMode_RejectsPageSizeBelowOne() throws Exception {
+        mockMvc.perform(get("/api/events").param("after", "").param("size", "0"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/events").param("after", "").param("size", "-1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private long countStatementsForEventPage(int size) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            mockMvc.perform(get("/api/events")
+                            .param("page", "0")
+                            .param("size", String.valueOf(size)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.events", hasSize(size)));
+            return statistics.getPrepareStatementCount();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
 }
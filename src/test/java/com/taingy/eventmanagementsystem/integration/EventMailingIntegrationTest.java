@@ -0,0 +1,211 @@
+package com.taingy.eventmanagementsystem.integration;
+
+import com.taingy.eventmanagementsystem.dto.EventMailingRequestDTO;
+import com.taingy.eventmanagementsystem.enums.MailingStatus;
+import com.taingy.eventmanagementsystem.enums.RegistrationStatus;
+import com.taingy.eventmanagementsystem.enums.Role;
+import com.taingy.eventmanagementsystem.model.Event;
+import com.taingy.eventmanagementsystem.model.EventMailing;
+import com.taingy.eventmanagementsystem.model.User;
+import com.taingy.eventmanagementsystem.repository.EventMailingRepository;
+import com.taingy.eventmanagementsystem.repository.EventRepository;
+import com.taingy.eventmanagementsystem.repository.RegistrationRepository;
+import com.taingy.eventmanagementsystem.repository.UserRepository;
+import com.taingy.eventmanagementsystem.service.EmailService;
+import com.taingy.eventmanagementsystem.service.EventMailingService;
+import com.taingy.eventmanagementsystem.service.SendGridEmailService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for event-wide mailings: recipients are sent in pages, an interrupted
+ * mailing resumes after the last delivered page and concurrent processors deliver it once.
+ */
+@TestPropertySource(properties = "app.mailing.batch-size=2")
+class EventMailingIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private EventMailingService eventMailingService;
+
+    @Autowired
+    private EventMailingRepository eventMailingRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private EmailService emailService;
+
+    @MockBean
+    private SendGridEmailService sendGridEmailService;
+
+    private User admin;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+
+        admin = createUser("admin", Role.ADMIN);
+        event = createEvent("Mailing Event");
+
+        for (int i = 0; i < 5; i++) {
+            createRegistration(event, "attendee" + i, i == 0 ? RegistrationStatus.CANCELLED : RegistrationStatus.CONFIRMED);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void processPendingMailings_SendsActiveRegistrantsInPages() throws IOException {
+        EventMailing mailing = eventMailingService.createMailing(event.getId(), mailingRequest(), admin);
+        assertEquals(4, mailing.getTotalRecipients());
+
+        eventMailingService.processPendingMailings();
+
+        EventMailing result = eventMailingRepository.findById(mailing.getId()).orElseThrow();
+        assertEquals(MailingStatus.COMPLETED, result.getStatus());
+        assertEquals(4, result.getSentCount());
+        assertEquals(2, result.getRequestCount());
+        assertNotNull(result.getCompletedAt());
+        verify(sendGridEmailService, times(2)).sendEventMailing(any(Event.class), eq("Venue change"), anyString(), anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void failedMailing_ResumesAfterLastDeliveredPage() throws Exception {
+        Set<String> delivered = new HashSet<>();
+        doAnswer(invocation -> {
+            ((List<User>) invocation.getArgument(3)).forEach(user -> delivered.add(user.getEmail()));
+            return null;
+        }).doThrow(new IOException("SendGrid returned status 503"))
+          .doAnswer(invocation -> {
+              ((List<User>) invocation.getArgument(3)).forEach(user -> assertTrue(delivered.add(user.getEmail())));
+              return null;
+          })
+          .when(sendGridEmailService).sendEventMailing(any(Event.class), anyString(), anyString(), anyList());
+
+        EventMailing mailing = eventMailingService.createMailing(event.getId(), mailingRequest(), admin);
+        eventMailingService.processPendingMailings();
+
+        EventMailing failed = eventMailingRepository.findById(mailing.getId()).orElseThrow();
+        assertEquals(MailingStatus.FAILED, failed.getStatus());
+        assertEquals(2, failed.getSentCount());
+        assertNotNull(failed.getLastError());
+
+        // Failed mailings are not retried until resumed
+        eventMailingService.processPendingMailings();
+        verify(sendGridEmailService, times(2)).sendEventMailing(any(Event.class), anyString(), anyString(), anyList());
+
+        eventMailingService.resumeMailing(event.getId(), mailing.getId());
+        eventMailingService.processPendingMailings();
+
+        EventMailing completed = eventMailingRepository.findById(mailing.getId()).orElseThrow();
+        assertEquals(MailingStatus.COMPLETED, completed.getStatus());
+        assertEquals(4, completed.getSentCount());
+        assertEquals(4, delivered.size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void processPendingMailings_ConcurrentProcessorsDeliverEachRecipientOnce() throws Exception {
+        List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            // Slow sends keep the first processor busy while the second one runs
+            Thread.sleep(100);
+            ((List<User>) invocation.getArgument(3)).forEach(user -> delivered.add(user.getEmail()));
+            return null;
+        }).when(sendGridEmailService).sendEventMailing(any(Event.class), anyString(), anyString(), anyList());
+
+        EventMailing mailing = eventMailingService.createMailing(event.getId(), mailingRequest(), admin);
+        EventMailingService otherNode = new EventMailingService(eventMailingRepository, eventRepository,
+                registrationRepository, sendGridEmailService, transactionManager, 2, 300000);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = executor.submit(() -> eventMailingService.processPendingMailings());
+            Future<?> second = executor.submit(otherNode::processPendingMailings);
+            first.get();
+            second.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        EventMailing result = eventMailingRepository.findById(mailing.getId()).orElseThrow();
+        assertEquals(MailingStatus.COMPLETED, result.getStatus());
+        assertEquals(4, result.getSentCount());
+        assertEquals(4, delivered.size());
+        assertEquals(4, new HashSet<>(delivered).size());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void createMailing_ReturnsAccepted_WhenAdmin() throws Exception {
+        mockMvc.perform(post("/api/events/{eventId}/mailings", event.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(mailingRequest())))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(jsonPath("$.totalRecipients").value(4));
+    }
+
+    @Test
+    @WithMockUser(username = "attendee1", roles = {"USER"})
+    void createMailing_Forbidden_WhenNotAdmin() throws Exception {
+        mockMvc.perform(post("/api/events/{eventId}/mailings", event.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(mailingRequest())))
+                .andExpect(status().isForbidden());
+    }
+
+    private EventMailingRequestDTO mailingRequest() {
+        return EventMailingRequestDTO.builder()
+                .subject("Venue change")
+                .message("The event has moved to Hall B.")
+                .build();
+    }
+
+
+    private void cleanUp() {
+        eventMailingRepository.deleteAll();
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+}
@@ -0,0 +1,177 @@
+package com.taingy.eventmanagementsystem.integration;
+
+import com.taingy.eventmanagementsystem.dto.RegistrationRequestDTO;
+import com.taingy.eventmanagementsystem.enums.EventStatus;
+import com.taingy.eventmanagementsystem.enums.RegistrationStatus;
+import com.taingy.eventmanagementsystem.enums.Role;
+import com.taingy.eventmanagementsystem.exception.BadRequestException;
+import com.taingy.eventmanagementsystem.model.Event;
+import com.taingy.eventmanagementsystem.model.User;
+import com.taingy.eventmanagementsystem.repository.EventRepository;
+import com.taingy.eventmanagementsystem.repository.NotificationRepository;
+import com.taingy.eventmanagementsystem.repository.OutboxMessageRepository;
+import com.taingy.eventmanagementsystem.repository.RegistrationRepository;
+import com.taingy.eventmanagementsystem.repository.UserRepository;
+import com.taingy.eventmanagementsystem.service.EmailService;
+import com.taingy.eventmanagementsystem.service.FlashSaleService;
+import com.taingy.eventmanagementsystem.service.RegistrationService;
+import com.taingy.eventmanagementsystem.service.SendGridEmailService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Load test for flash sale mode: many concurrent registrants compete for a small
+ * number of seats and the event must never be oversold.
+ *
+ * Not transactional on purpose, since every registration has to commit on its own thread.
+ */
+class FlashSaleIntegrationTest extends BaseIntegrationTest {
+
+    private static final int REGISTRANTS = 1000;
+    private static final int CAPACITY = 50;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private FlashSaleService flashSaleService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private EmailService emailService;
+
+    @MockBean
+    private SendGridEmailService sendGridEmailService;
+
+    private Event event;
+    private List<User> registrants;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+
+        String passwordHash = passwordEncoder.encode("password123");
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < REGISTRANTS; i++) {
+            User user = new User();
+            user.setUsername("fan" + i);
+            user.setEmail("fan" + i + "@test.com");
+            user.setFirstName("Fan");
+            user.setLastName(String.valueOf(i));
+            user.setPasswordHash(passwordHash);
+            user.setRole(Role.USER);
+            users.add(user);
+        }
+        registrants = userRepository.saveAll(users);
+
+        event = new Event();
+        event.setTitle("Flash Sale Concert");
+        event.setCapacity(CAPACITY);
+        event.setStatus(EventStatus.ACTIVE);
+        event = eventRepository.save(event);
+    }
+
+    @AfterEach
+    void tearDown() {
+        flashSaleService.closeFlashSale(event.getId());
+        cleanUp();
+    }
+
+    @Test
+    void flashSale_NeverOversells_UnderConcurrentRegistrations() throws Exception {
+        assertEquals(CAPACITY, flashSaleService.openFlashSale(event.getId()));
+
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch startGate = new CountDownLatch(1);
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (User user : registrants) {
+            futures.add(executor.submit(() -> {
+                startGate.await();
+                try {
+                    registrationService.registerAttendee(RegistrationRequestDTO.builder()
+                            .eventId(event.getId())
+                            .userId(user.getId())
+                            .build());
+                    admitted.incrementAndGet();
+                } catch (BadRequestException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        startGate.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(CAPACITY, admitted.get());
+        assertEquals(REGISTRANTS - CAPACITY, rejected.get());
+        assertEquals(CAPACITY, registrationRepository.findByEvent(event).stream()
+                .filter(r -> r.getStatus() == RegistrationStatus.CONFIRMED)
+                .count());
+        assertEquals(CAPACITY, eventRepository.findById(event.getId()).orElseThrow().getRegisteredCount());
+        assertEquals(0, flashSaleService.getAvailablePermits(event.getId()));
+    }
+
+    @Test
+    void flashSale_ReconcileRestoresPermitsFreedByCancellation() {
+        flashSaleService.openFlashSale(event.getId());
+
+        UUID registrationId = registrationService.registerAttendee(RegistrationRequestDTO.builder()
+                .eventId(event.getId())
+                .userId(registrants.get(0).getId())
+                .build()).orElseThrow().getId();
+        assertEquals(CAPACITY - 1, flashSaleService.getAvailablePermits(event.getId()));
+
+        registrationService.cancelRegistration(registrationId);
+        flashSaleService.reconcile();
+
+        assertEquals(CAPACITY, flashSaleService.getAvailablePermits(event.getId()));
+    }
+
+    private void cleanUp() {
+        outboxMessageRepository.deleteAll();
+        notificationRepository.deleteAll();
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+}
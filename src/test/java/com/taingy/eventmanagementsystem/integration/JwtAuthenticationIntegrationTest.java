@@ -0,0 +1,123 @@
+package com.taingy.eventmanagementsystem.integration;
+
+import com.taingy.eventmanagementsystem.dto.AuthRequests;
+import com.taingy.eventmanagementsystem.enums.Role;
+import com.taingy.eventmanagementsystem.model.User;
+import com.taingy.eventmanagementsystem.repository.UserRepository;
+import com.taingy.eventmanagementsystem.security.JwtUtil;
+import com.taingy.eventmanagementsystem.service.UserService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for stateless JWT authentication: tokens carrying user id, role and token
+ * version authenticate without loading the user, and bumping the version revokes them.
+ */
+@Transactional
+class JwtAuthenticationIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setUsername("statelessuser");
+        user.setEmail("stateless@test.com");
+        user.setFirstName("Stateless");
+        user.setLastName("User");
+        user.setPasswordHash(passwordEncoder.encode("password123"));
+        user.setRole(Role.USER);
+        user.setEmailVerified(true);
+        user = userRepository.save(user);
+    }
+
+    @Test
+    void statelessToken_SkipsUserLookup() throws Exception {
+        String statelessToken = jwtUtil.generateToken(user);
+        String legacyToken = jwtUtil.generateToken(user.getUsername(), user.getRole().name());
+
+        // Warm the revocation cache
+        mockMvc.perform(get("/api/categories").header("Authorization", "Bearer " + statelessToken))
+                .andExpect(status().isOk());
+
+        long legacyStatements = countStatements(legacyToken);
+        long statelessStatements = countStatements(statelessToken);
+
+        assertEquals(legacyStatements - 1, statelessStatements);
+    }
+
+    @Test
+    void changePassword_RevokesPreviouslyIssuedTokens() throws Exception {
+        String token = jwtUtil.generateToken(user);
+
+        mockMvc.perform(post("/api/auth/change-password")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new AuthRequests.ChangePasswordRequest("password123", "newPassword456"))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/categories").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/api/categories").header("Authorization", "Bearer " + jwtUtil.generateToken(user)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void resetUserPassword_RevokesPreviouslyIssuedTokens() throws Exception {
+        String token = jwtUtil.generateToken(user);
+        mockMvc.perform(get("/api/categories").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        userService.resetUserPassword(user.getId(), "resetPassword789");
+
+        mockMvc.perform(get("/api/categories").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    private long countStatements(String token) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            mockMvc.perform(get("/api/categories").header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk());
+            return statistics.getPrepareStatementCount();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+}
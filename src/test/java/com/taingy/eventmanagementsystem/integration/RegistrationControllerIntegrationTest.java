@@ -1,5 +1,6 @@
 package com.taingy.eventmanagementsystem.integration;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.taingy.eventmanagementsystem.dto.RegistrationRequestDTO;
 import com.taingy.eventmanagementsystem.dto.RegistrationUpdateDTO;
 import com.taingy.eventmanagementsystem.enums.EventStatus;
@@ -13,6 +14,9 @@ import com.taingy.eventmanagementsystem.repository.CategoryRepository;
 import com.taingy.eventmanagementsystem.repository.EventRepository;
 import com.taingy.eventmanagementsystem.repository.RegistrationRepository;
 import com.taingy.eventmanagementsystem.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,9 +28,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -53,6 +61,9 @@ class RegistrationControllerIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @MockBean
     private com.taingy.eventmanagementsystem.service.EmailService emailService;
 
@@ -223,6 +234,112 @@ class RegistrationControllerIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.totalItems").value(1));
     }
 
+    @Test
+    @WithMockUser
+    void getRegistrationsByEvent_StatementCountDoesNotGrowWithRegistrations() throws Exception {
+        long oneRegistration = countStatements("/api/registrations/event/" + testEvent.getId(), 1);
+
+        for (int i = 0; i < 5; i++) {
+            User user = new User();
+            user.setUsername("attendee" + i);
+            user.setEmail("attendee" + i + "@test.com");
+            user.setFirstName("Attendee");
+            user.setLastName(String.valueOf(i));
+            user.setPasswordHash("hash");
+            user.setRole(Role.USER);
+            user = userRepository.save(user);
+
+            Registration registration = new Registration();
+            registration.setUser(user);
+            registration.setEvent(testEvent);
+            registration.setStatus(RegistrationStatus.CONFIRMED);
+            registrationRepository.save(registration);
+        }
+
+        assertEquals(oneRegistration, countStatements("/api/registrations/event/" + testEvent.getId(), 6));
+    }
+
+    @Test
+    @WithMockUser
+    void getRegistrationsByUser_StatementCountDoesNotGrowWithRegistrations() throws Exception {
+        long oneRegistration = countStatements("/api/registrations/user/" + testUser.getId(), 1);
+
+        for (int i = 0; i < 5; i++) {
+            Category category = new Category();
+            category.setName("Category " + i);
+            category = categoryRepository.save(category);
+
+            Event event = new Event();
+            event.setTitle("Other Event " + i);
+            event.setStatus(EventStatus.ACTIVE);
+            event.setCategory(category);
+            event.setOrganizer(i % 2 == 0 ? anotherUser : testUser);
+            event = eventRepository.save(event);
+
+            Registration registration = new Registration();
+            registration.setUser(testUser);
+            registration.setEvent(event);
+            registration.setStatus(RegistrationStatus.CONFIRMED);
+            registrationRepository.save(registration);
+        }
+
+        assertEquals(oneRegistration, countStatements("/api/registrations/user/" + testUser.getId(), 6));
+    }
+
+    @Test
+    @WithMockUser
+    void getRegistrationsByUser_CursorMode_PagesWithoutCount() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            Event event = new Event();
+            event.setTitle("Cursor Event " + i);
+            event.setStatus(EventStatus.ACTIVE);
+            event = eventRepository.save(event);
+
+            Registration registration = new Registration();
+            registration.setUser(testUser);
+            registration.setEvent(event);
+            registration.setStatus(RegistrationStatus.CONFIRMED);
+            registrationRepository.save(registration);
+        }
+
+        Set<String> seen = new HashSet<>();
+        String cursor = "";
+        int pages = 0;
+        boolean hasNext = true;
+        while (hasNext) {
+            String body = mockMvc.perform(get("/api/registrations/user/{userId}", testUser.getId())
+                            .param("size", "2")
+                            .param("after", cursor))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalItems").doesNotExist())
+                    .andReturn().getResponse().getContentAsString();
+
+            JsonNode page = objectMapper.readTree(body);
+            page.get("registrations").forEach(registration -> assertTrue(seen.add(registration.get("id").asText())));
+            hasNext = page.get("hasNext").asBoolean();
+            cursor = page.get("nextCursor").asText();
+            pages++;
+        }
+
+        assertEquals(5, seen.size());
+        assertEquals(3, pages);
+    }
+
+    @Test
+    @WithMockUser
+    void getRegistrationsByUser_CursorMode_NotFound_WhenUserMissing() throws Exception {
+        mockMvc.perform(get("/api/registrations/user/{userId}", UUID.randomUUID()).param("after", ""))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser
+    void getRegistrationsByUser_CursorMode_RejectsPageSizeBelowOne() throws Exception {
+        mockMvc.perform(get("/api/registrations/user/{userId}", testUser.getId())
+                        .param("after", "").param("size", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(username = "testuser")
     void cancelRegistration_Success() throws Exception {
@@ -299,9 +416,45 @@ class RegistrationControllerIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.registered").value(false));
     }
 
-    // Note: This test is commented out because the current implementation doesn't check event capacity
-    // Uncomment when capacity validation is implemented in RegistrationService
-    /*
+    @Test
+    @WithMockUser(username = "testuser")
+    void checkRegistrations_ReturnsStateForEveryRequestedEvent() throws Exception {
+        Event cancelledEvent = new Event();
+        cancelledEvent.setTitle("Cancelled Registration Event");
+        cancelledEvent.setStatus(EventStatus.ACTIVE);
+        cancelledEvent = eventRepository.save(cancelledEvent);
+
+        Registration cancelled = new Registration();
+        cancelled.setUser(testUser);
+        cancelled.setEvent(cancelledEvent);
+        cancelled.setStatus(RegistrationStatus.CANCELLED);
+        registrationRepository.save(cancelled);
+
+        UUID unknownEventId = UUID.randomUUID();
+
+        mockMvc.perform(get("/api/registrations/check")
+                        .param("eventIds", testEvent.getId().toString(), cancelledEvent.getId().toString(),
+                                unknownEventId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['" + testEvent.getId() + "'].registered").value(true))
+                .andExpect(jsonPath("$['" + testEvent.getId() + "'].status").value("CONFIRMED"))
+                .andExpect(jsonPath("$['" + cancelledEvent.getId() + "'].registered").value(false))
+                .andExpect(jsonPath("$['" + cancelledEvent.getId() + "'].status").value("CANCELLED"))
+                .andExpect(jsonPath("$['" + unknownEventId + "'].registered").value(false));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser")
+    void checkRegistrations_BadRequest_WhenTooManyEventIds() throws Exception {
+        String[] eventIds = new String[101];
+        for (int i = 0; i < eventIds.length; i++) {
+            eventIds[i] = UUID.randomUUID().toString();
+        }
+
+        mockMvc.perform(get("/api/registrations/check").param("eventIds", eventIds))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(username = "anotheruser")
     void registerForEvent_BadRequest_WhenEventAtCapacity() throws Exception {
@@ -318,6 +471,7 @@ class RegistrationControllerIntegrationTest extends BaseIntegrationTest {
         fullEvent.setStatus(EventStatus.ACTIVE);
         fullEvent.setCategory(testEvent.getCategory());
         fullEvent.setOrganizer(testUser);
+        fullEvent.setRegisteredCount(1);
         fullEvent = eventRepository.save(fullEvent);
 
         // Fill the event to capacity
@@ -339,6 +493,55 @@ class RegistrationControllerIntegrationTest extends BaseIntegrationTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(requestDTO)))
                 .andExpect(status().isBadRequest());
+
+        // Verify the seat counter was not exceeded
+        assert eventRepository.findById(fullEvent.getId()).orElseThrow().getRegisteredCount() == 1;
+    }
+
+    @Test
+    @WithMockUser(username = "anotheruser")
+    void registerAndCancel_UpdatesAvailableSeats() throws Exception {
+        RegistrationRequestDTO requestDTO = RegistrationRequestDTO.builder()
+                .userId(anotherUser.getId())
+                .eventId(testEvent.getId())
+                .build();
+
+        String response = mockMvc.perform(post("/api/registrations")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDTO)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.event.availableSeats").value(99))
+                .andReturn().getResponse().getContentAsString();
+
+        String registrationId = objectMapper.readTree(response).get("id").asText();
+
+        mockMvc.perform(put("/api/registrations/{id}/cancel", registrationId)
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.event.availableSeats").value(100));
+    }
+
+    private long countStatements(String url, int expectedRegistrations) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            String body = mockMvc.perform(get(url))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode response = objectMapper.readTree(body);
+            JsonNode registrations = response.has("registrations") ? response.get("registrations") : response;
+            assertEquals(expectedRegistrations, registrations.size());
+            registrations.forEach(registration -> assertTrue(registration.get("event").has("category")));
+            return statistics.getPrepareStatementCount();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
     }
-    */
 }
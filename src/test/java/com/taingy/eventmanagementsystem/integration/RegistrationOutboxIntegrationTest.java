@@ -0,0 +1,202 @@
+package com.taingy.eventmanagementsystem.integration;
+
+import com.taingy.eventmanagementsystem.dto.RegistrationRequestDTO;
+import com.taingy.eventmanagementsystem.enums.EventStatus;
+import com.taingy.eventmanagementsystem.enums.OutboxMessageType;
+import com.taingy.eventmanagementsystem.enums.Role;
+import com.taingy.eventmanagementsystem.model.Event;
+import com.taingy.eventmanagementsystem.model.OutboxMessage;
+import com.taingy.eventmanagementsystem.model.Registration;
+import com.taingy.eventmanagementsystem.model.User;
+import com.taingy.eventmanagementsystem.repository.EventRepository;
+import com.taingy.eventmanagementsystem.repository.NotificationRepository;
+import com.taingy.eventmanagementsystem.repository.OutboxMessageRepository;
+import com.taingy.eventmanagementsystem.repository.RegistrationRepository;
+import com.taingy.eventmanagementsystem.repository.UserRepository;
+import com.taingy.eventmanagementsystem.service.EmailService;
+import com.taingy.eventmanagementsystem.service.RegistrationOutboxDispatcher;
+import com.taingy.eventmanagementsystem.service.RegistrationService;
+import com.taingy.eventmanagementsystem.service.SendGridEmailService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Integration tests for the registration outbox: registration writes only an outbox row,
+ * and the dispatcher turns it into a notification and an email, retrying failed sends.
+ *
+ * Not transactional on purpose, since the dispatcher commits each batch itself.
+ */
+class RegistrationOutboxIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private RegistrationOutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private EmailService emailService;
+
+    @MockBean
+    private SendGridEmailService sendGridEmailService;
+
+    private User user;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+
+        user = new User();
+        user.setUsername("outboxuser");
+        user.setEmail("outboxuser@test.com");
+        user.setFirstName("Outbox");
+        user.setLastName("User");
+        user.setPasswordHash(passwordEncoder.encode("password123"));
+        user.setRole(Role.USER);
+        user = userRepository.save(user);
+
+        event = new Event();
+        event.setTitle("Outbox Event");
+        event.setCapacity(10);
+        event.setStatus(EventStatus.ACTIVE);
+        event = eventRepository.save(event);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void registerAttendee_WritesOutboxMessage_WithoutSideEffects() throws Exception {
+        Registration registration = registerUser();
+
+        List<OutboxMessage> messages = outboxMessageRepository.findAll();
+        assertEquals(1, messages.size());
+        assertEquals(OutboxMessageType.REGISTRATION, messages.get(0).getType());
+        assertEquals(registration.getId(), messages.get(0).getRegistrationId());
+        assertNull(messages.get(0).getProcessedAt());
+
+        assertEquals(0, notificationRepository.count());
+        verify(sendGridEmailService, never()).sendRegistrationConfirmation(any(Registration.class));
+    }
+
+    @Test
+    void dispatchPending_CreatesNotificationsAndSendsEmails() throws Exception {
+        Registration registration = registerUser();
+        registrationService.cancelRegistration(registration.getId());
+
+        outboxDispatcher.dispatchPending();
+
+        assertEquals(2, notificationRepository.count());
+        assertTrue(outboxMessageRepository.findAll().stream().allMatch(m -> m.getProcessedAt() != null));
+        verify(sendGridEmailService, times(1)).sendRegistrationConfirmation(any(Registration.class));
+        verify(sendGridEmailService, times(1)).sendRegistrationCancellation(any(Registration.class));
+
+        // Processed messages are not dispatched again
+        outboxDispatcher.dispatchPending();
+        assertEquals(2, notificationRepository.count());
+    }
+
+    @Test
+    void dispatchPending_KeepsMessagePendingUntilEmailIsSent() throws Exception {
+        doThrow(new IOException("SendGrid returned status 503"))
+                .doNothing()
+                .when(sendGridEmailService).sendRegistrationConfirmation(any(Registration.class));
+        registerUser();
+
+        outboxDispatcher.dispatchPending();
+
+        OutboxMessage failed = outboxMessageRepository.findAll().get(0);
+        assertNull(failed.getProcessedAt());
+        assertEquals(1, failed.getAttempts());
+        assertNotNull(failed.getLastError());
+        assertTrue(failed.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertEquals(1, notificationRepository.count());
+
+        // Not retried before its backoff has passed
+        outboxDispatcher.dispatchPending();
+        verify(sendGridEmailService, times(1)).sendRegistrationConfirmation(any(Registration.class));
+
+        failed.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        outboxMessageRepository.save(failed);
+        outboxDispatcher.dispatchPending();
+
+        OutboxMessage delivered = outboxMessageRepository.findAll().get(0);
+        assertNotNull(delivered.getProcessedAt());
+        assertEquals(2, delivered.getAttempts());
+        assertNull(delivered.getLastError());
+        assertEquals(1, notificationRepository.count());
+        verify(sendGridEmailService, times(2)).sendRegistrationConfirmation(any(Registration.class));
+    }
+
+    @Test
+    void dispatchPending_SendsOutsideTheClaimTransaction() throws Exception {
+        List<Boolean> inTransaction = new ArrayList<>();
+        List<OutboxMessage> claimed = new ArrayList<>();
+        doAnswer(invocation -> {
+            inTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+            claimed.addAll(outboxMessageRepository.findAll());
+            return null;
+        }).when(sendGridEmailService).sendRegistrationConfirmation(any(Registration.class));
+        registerUser();
+
+        outboxDispatcher.dispatchPending();
+
+        assertEquals(List.of(false), inTransaction);
+        // The claim is committed before sending: attempt counted and leased, not yet processed
+        assertEquals(1, claimed.size());
+        assertEquals(1, claimed.get(0).getAttempts());
+        assertNull(claimed.get(0).getProcessedAt());
+        assertTrue(claimed.get(0).getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertNotNull(outboxMessageRepository.findAll().get(0).getProcessedAt());
+    }
+
+    private Registration registerUser() {
+        return registrationService.registerAttendee(RegistrationRequestDTO.builder()
+                .eventId(event.getId())
+                .userId(user.getId())
+                .build()).orElseThrow();
+    }
+
+    private void cleanUp() {
+        outboxMessageRepository.deleteAll();
+        notificationRepository.deleteAll();
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+}
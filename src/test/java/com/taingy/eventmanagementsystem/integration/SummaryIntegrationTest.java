@@ -0,0 +1,107 @@
+package com.taingy.eventmanagementsystem.integration;
+
+import com.taingy.eventmanagementsystem.enums.EventStatus;
+import com.taingy.eventmanagementsystem.enums.RegistrationStatus;
+import com.taingy.eventmanagementsystem.enums.Role;
+import com.taingy.eventmanagementsystem.model.Category;
+import com.taingy.eventmanagementsystem.model.Event;
+import com.taingy.eventmanagementsystem.model.Registration;
+import com.taingy.eventmanagementsystem.model.User;
+import com.taingy.eventmanagementsystem.repository.CategoryRepository;
+import com.taingy.eventmanagementsystem.repository.EventRepository;
+import com.taingy.eventmanagementsystem.repository.RegistrationRepository;
+import com.taingy.eventmanagementsystem.repository.UserRepository;
+import com.taingy.eventmanagementsystem.service.SummaryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the dashboard summary: the recount queries group by status and creation
+ * day on the real schema.
+ */
+@Transactional
+class SummaryIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private SummaryService summaryService;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @BeforeEach
+    void setUp() {
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+        categoryRepository.deleteAll();
+
+        Category category = new Category();
+        category.setName("Music");
+        categoryRepository.save(category);
+
+        Event active = createEvent(EventStatus.ACTIVE);
+        createEvent(EventStatus.DRAFT);
+
+        for (int i = 0; i < 3; i++) {
+            User user = new User();
+            user.setUsername("member" + i);
+            user.setEmail("member" + i + "@test.com");
+            user.setFirstName("Member");
+            user.setLastName(String.valueOf(i));
+            user.setPasswordHash("hash");
+            user.setRole(Role.USER);
+            user = userRepository.save(user);
+
+            Registration registration = new Registration();
+            registration.setEvent(active);
+            registration.setUser(user);
+            registration.setStatus(i == 0 ? RegistrationStatus.CANCELLED : RegistrationStatus.CONFIRMED);
+            registrationRepository.save(registration);
+        }
+        registrationRepository.flush();
+
+        summaryService.reconcile();
+    }
+
+    @Test
+    @WithMockUser
+    void getSummary_ReturnsTotalsAndBreakdowns() throws Exception {
+        mockMvc.perform(get("/api/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalEvents").value(2))
+                .andExpect(jsonPath("$.totalUsers").value(3))
+                .andExpect(jsonPath("$.totalCategories").value(1))
+                .andExpect(jsonPath("$.totalRegistrations").value(3))
+                .andExpect(jsonPath("$.eventsByStatus.ACTIVE").value(1))
+                .andExpect(jsonPath("$.eventsByStatus.DRAFT").value(1))
+                .andExpect(jsonPath("$.registrationsByStatus.CONFIRMED").value(2))
+                .andExpect(jsonPath("$.registrationsByStatus.CANCELLED").value(1))
+                .andExpect(jsonPath("$.registrationsPerDay['" + LocalDate.now() + "']").value(3))
+                .andExpect(jsonPath("$.reconciledAt").exists());
+    }
+
+    private Event createEvent(EventStatus status) {
+        Event event = new Event();
+        event.setTitle(status + " Event");
+        event.setStatus(status);
+        return eventRepository.save(event);
+    }
+}
@@ -0,0 +1,227 @@
+package com.taingy.eventmanagementsystem.integration;
+
+import com.taingy.eventmanagementsystem.config.DatabaseFeatures;
+import com.taingy.eventmanagementsystem.enums.IssuanceStatus;
+import com.taingy.eventmanagementsystem.enums.RegistrationStatus;
+import com.taingy.eventmanagementsystem.enums.Role;
+import com.taingy.eventmanagementsystem.enums.TicketStatus;
+import com.taingy.eventmanagementsystem.model.Event;
+import com.taingy.eventmanagementsystem.model.Registration;
+import com.taingy.eventmanagementsystem.model.Ticket;
+import com.taingy.eventmanagementsystem.model.TicketIssuance;
+import com.taingy.eventmanagementsystem.model.User;
+import com.taingy.eventmanagementsystem.repository.EventRepository;
+import com.taingy.eventmanagementsystem.repository.RegistrationRepository;
+import com.taingy.eventmanagementsystem.repository.TicketIssuanceRepository;
+import com.taingy.eventmanagementsystem.repository.TicketRepository;
+import com.taingy.eventmanagementsystem.repository.UserRepository;
+import com.taingy.eventmanagementsystem.service.TicketIssuanceService;
+import com.taingy.eventmanagementsystem.service.TicketNumberAllocator;
+import com.taingy.eventmanagementsystem.service.TicketService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for bulk ticket issuance: confirmed registrations without a ticket get one,
+ * in batches, and a run never issues a second ticket for the same registration.
+ */
+@TestPropertySource(properties = "app.tickets.issue-batch-size=2")
+class TicketIssuanceIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private TicketIssuanceService ticketIssuanceService;
+
+    @Autowired
+    private TicketIssuanceRepository ticketIssuanceRepository;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TicketNumberAllocator ticketNumberAllocator;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DatabaseFeatures databaseFeatures;
+
+    private User admin;
+    private Event event;
+    private final List<Registration> confirmed = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+
+        admin = createUser("admin", Role.ADMIN);
+        event = createEvent("Ticketed Event");
+
+        // Only confirmed registrations get tickets
+        confirmed.clear();
+        for (int i = 0; i < 4; i++) {
+            confirmed.add(createRegistration(event, "confirmed" + i, RegistrationStatus.CONFIRMED));
+        }
+        createRegistration(event, "pending", RegistrationStatus.PENDING);
+        createRegistration(event, "cancelled", RegistrationStatus.CANCELLED);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void processPendingIssuances_IssuesOneTicketPerConfirmedRegistration() {
+        ticketService.createTicket(confirmed.get(0).getId());
+
+        TicketIssuance issuance = ticketIssuanceService.createIssuance(event.getId(), admin);
+        assertEquals(3, issuance.getTotalRegistrations());
+
+        ticketIssuanceService.processPendingIssuances();
+
+        TicketIssuance result = ticketIssuanceRepository.findById(issuance.getId()).orElseThrow();
+        assertEquals(IssuanceStatus.COMPLETED, result.getStatus());
+        assertEquals(3, result.getIssuedCount());
+        assertEquals(2, result.getBatchCount());
+        assertNotNull(result.getCompletedAt());
+        assertNull(result.getClaimedBy());
+
+        List<Ticket> tickets = ticketRepository.findAll();
+        assertEquals(4, tickets.size());
+        Set<String> ticketNumbers = new HashSet<>();
+        for (Ticket ticket : tickets) {
+            assertEquals(TicketStatus.VALID, ticket.getStatus());
+            assertTrue(ticketNumbers.add(ticket.getTicketNumber()));
+        }
+
+        // A second run finds nothing left to issue
+        TicketIssuance rerun = ticketIssuanceService.createIssuance(event.getId(), admin);
+        assertEquals(0, rerun.getTotalRegistrations());
+        ticketIssuanceService.processPendingIssuances();
+        assertEquals(4, ticketRepository.count());
+    }
+
+    @Test
+    void inProgressIssuance_ResumesAfterLastCommittedBatch() {
+        TicketIssuance issuance = ticketIssuanceService.createIssuance(event.getId(), admin);
+
+        // Simulate a run that stopped after its first batch
+        issuance.setStatus(IssuanceStatus.IN_PROGRESS);
+        List<UUID> firstBatch = registrationRepository.findUnticketedConfirmedIdsByEventAfter(
+                event.getId(), new UUID(0L, 0L), PageRequest.of(0, 2));
+        issuance.setLastRegistrationId(firstBatch.get(1));
+        issuance.setIssuedCount(2);
+        issuance.setBatchCount(1);
+        ticketIssuanceRepository.save(issuance);
+
+        ticketIssuanceService.processPendingIssuances();
+
+        TicketIssuance result = ticketIssuanceRepository.findById(issuance.getId()).orElseThrow();
+        assertEquals(IssuanceStatus.COMPLETED, result.getStatus());
+        assertEquals(4, result.getIssuedCount());
+        assertEquals(2, ticketRepository.count());
+    }
+
+    @Test
+    void processPendingIssuances_ConcurrentProcessorsIssueEachTicketOnce() throws Exception {
+        // Slow ticket numbers keep the first processor inside its batch while the second one runs
+        TicketNumberAllocator slowAllocator = spy(ticketNumberAllocator);
+        doAnswer(invocation -> {
+            Thread.sleep(50);
+            return invocation.callRealMethod();
+        }).when(slowAllocator).nextTicketNumber();
+
+        TicketIssuance issuance = ticketIssuanceService.createIssuance(event.getId(), admin);
+        TicketIssuanceService firstNode = newProcessor(slowAllocator);
+        TicketIssuanceService secondNode = newProcessor(slowAllocator);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = executor.submit(firstNode::processPendingIssuances);
+            Future<?> second = executor.submit(secondNode::processPendingIssuances);
+            first.get();
+            second.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        TicketIssuance result = ticketIssuanceRepository.findById(issuance.getId()).orElseThrow();
+        assertEquals(IssuanceStatus.COMPLETED, result.getStatus());
+        assertEquals(4, result.getIssuedCount());
+        assertEquals(2, result.getBatchCount());
+
+        Set<UUID> ticketed = new HashSet<>();
+        for (Ticket ticket : ticketRepository.findAll()) {
+            assertTrue(ticketed.add(ticket.getRegistration().getId()));
+        }
+        assertEquals(4, ticketed.size());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void createIssuance_ReturnsAccepted_WhenAdmin() throws Exception {
+        mockMvc.perform(post("/api/events/{eventId}/ticket-issuances", event.getId()))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(jsonPath("$.totalRegistrations").value(4));
+    }
+
+    @Test
+    @WithMockUser(username = "confirmed1", roles = {"USER"})
+    void createIssuance_Forbidden_WhenNotAdmin() throws Exception {
+        mockMvc.perform(post("/api/events/{eventId}/ticket-issuances", event.getId()))
+                .andExpect(status().isForbidden());
+    }
+
+    private TicketIssuanceService newProcessor(TicketNumberAllocator allocator) {
+        return new TicketIssuanceService(ticketIssuanceRepository, eventRepository, registrationRepository,
+                allocator, dataSource, transactionManager, databaseFeatures, 2, 300000);
+    }
+
+    private void cleanUp() {
+        ticketIssuanceRepository.deleteAll();
+        ticketRepository.deleteAll();
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+}
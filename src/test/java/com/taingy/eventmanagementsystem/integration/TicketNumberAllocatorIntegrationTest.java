@@ -0,0 +1,73 @@
+package com.taingy.eventmanagementsystem.integration;
+
+import com.taingy.eventmanagementsystem.config.DatabaseFeatures;
+import com.taingy.eventmanagementsystem.service.TicketNumberAllocator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for ticket number allocation against the database sequence. Two allocators
+ * over the same database stand in for two application nodes.
+ */
+class TicketNumberAllocatorIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private TicketNumberAllocator ticketNumberAllocator;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DatabaseFeatures databaseFeatures;
+
+    @Test
+    void nextTicketNumber_UsesReadableFormat() {
+        String ticketNumber = ticketNumberAllocator.nextTicketNumber();
+
+        assertTrue(ticketNumber.matches("TKT-\\d{8}-\\d{6,}"), ticketNumber);
+    }
+
+    @Test
+    void nextTicketNumber_IsUniqueAcrossThreadsAndNodes() throws Exception {
+        TicketNumberAllocator otherNode = new TicketNumberAllocator(dataSource, transactionManager, databaseFeatures);
+        Set<String> ticketNumbers = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int perThread = 600;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                TicketNumberAllocator allocator = t % 2 == 0 ? ticketNumberAllocator : otherNode;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        ticketNumbers.add(allocator.nextTicketNumber());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(threads * perThread, ticketNumbers.size());
+    }
+}
@@ -0,0 +1,74 @@
+package com.taingy.eventmanagementsystem.integration;
+
+import com.taingy.eventmanagementsystem.enums.Role;
+import com.taingy.eventmanagementsystem.model.Event;
+import com.taingy.eventmanagementsystem.model.User;
+import com.taingy.eventmanagementsystem.repository.EventRepository;
+import com.taingy.eventmanagementsystem.repository.UserRepository;
+import com.taingy.eventmanagementsystem.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the user identity cache: requests run outside a transaction so the cache
+ * is used, and changes made through the services apply to the next request on the same instance.
+ */
+class UserIdentityCacheIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private User admin;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        admin = createUser("cacheadmin", Role.ADMIN);
+        event = createEvent("Cached Identity Event");
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteById(event.getId());
+        userRepository.findByUsername("cacheadmin").ifPresent(userRepository::delete);
+    }
+
+    @Test
+    @WithMockUser(username = "cacheadmin")
+    void roleChange_AppliesToTheNextRequest() throws Exception {
+        mockMvc.perform(get("/api/events/{eventId}/mailings", event.getId()))
+                .andExpect(status().isOk());
+
+        User details = userRepository.findById(admin.getId()).orElseThrow();
+        details.setRole(Role.USER);
+        details.setPasswordHash(null);
+        userService.updateUser(admin.getId(), details);
+
+        mockMvc.perform(get("/api/events/{eventId}/mailings", event.getId()))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(username = "cacheadmin")
+    void deleteUser_AppliesToTheNextRequest() throws Exception {
+        mockMvc.perform(get("/api/events/{eventId}/mailings", event.getId()))
+                .andExpect(status().isOk());
+
+        userService.deleteUser(admin.getId());
+
+        mockMvc.perform(get("/api/events/{eventId}/mailings", event.getId()))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,92 @@
+package com.taingy.eventmanagementsystem.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtUtilTest.class);
+
+    private static final String SECRET = "testSecretKeyForIntegrationTestingPurposeOnly123456789";
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = newJwtUtil(3600000);
+    }
+
+    @Test
+    void parseClaims_ReturnsSubjectAndRole() {
+        String token = jwtUtil.generateToken("alice", "ADMIN");
+
+        Claims claims = jwtUtil.parseClaims(token).orElseThrow();
+
+        assertEquals("alice", claims.getSubject());
+        assertEquals("ADMIN", jwtUtil.getRole(claims));
+        assertTrue(jwtUtil.isTokenValid(token, "alice"));
+        assertFalse(jwtUtil.isTokenValid(token, "bob"));
+    }
+
+    @Test
+    void parseClaims_RejectsTamperedExpiredAndMalformedTokens() {
+        String token = jwtUtil.generateToken("alice", "USER");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        String expired = newJwtUtil(-1000).generateToken("alice", "USER");
+
+        assertTrue(jwtUtil.parseClaims(tampered).isEmpty());
+        assertTrue(jwtUtil.parseClaims(expired).isEmpty());
+        assertTrue(jwtUtil.parseClaims("not-a-jwt").isEmpty());
+        assertTrue(jwtUtil.parseClaims("").isEmpty());
+        assertFalse(jwtUtil.isTokenValid(expired, "alice"));
+    }
+
+    /**
+     * Stand-in for a JMH benchmark: per-request cost of the previous filter path (new key and
+     * parser, token parsed twice) versus one parse with the cached parser.
+     */
+    @Test
+    void cachedParser_ReportsPerRequestCost() {
+        String token = jwtUtil.generateToken("alice", "USER");
+
+        long rebuilt = measure(t -> {
+            Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes())).build().parseClaimsJws(t);
+            Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes())).build()
+                    .parseClaimsJws(t).getBody().getSubject();
+        }, token);
+        long cached = measure(t -> jwtUtil.parseClaims(t).orElseThrow().getSubject(), token);
+
+        logger.info("JWT auth per request: {} ns with a rebuilt parser parsing twice, {} ns with the cached parser",
+                rebuilt, cached);
+    }
+
+    private long measure(Consumer<String> authenticate, String token) {
+        int iterations = 1_000;
+        for (int i = 0; i < iterations; i++) {
+            authenticate.accept(token);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            authenticate.accept(token);
+        }
+        return (System.nanoTime() - start) / iterations;
+    }
+
+    private JwtUtil newJwtUtil(long expirationMs) {
+        JwtUtil util = new JwtUtil();
+        ReflectionTestUtils.setField(util, "SECRET_KEY", SECRET);
+        ReflectionTestUtils.setField(util, "expirationMs", expirationMs);
+        util.init();
+        return util;
+    }
+}
@@ -0,0 +1,78 @@
+package com.taingy.eventmanagementsystem.security;
+
+import com.taingy.eventmanagementsystem.model.User;
+import com.taingy.eventmanagementsystem.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TokenRevocationCacheTest {
+
+    private UserRepository userRepository;
+    private UserIdentityCache userIdentityCache;
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRevocationCache cache;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userIdentityCache = mock(UserIdentityCache.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TokenRevocationCache(userRepository, userIdentityCache, meterRegistry, 100, 60000);
+
+        userId = UUID.randomUUID();
+        when(userRepository.findTokenVersionById(userId)).thenReturn(Optional.of(3));
+    }
+
+    @Test
+    void isCurrent_LoadsVersionOnce() {
+        assertTrue(cache.isCurrent(userId, 3));
+        assertFalse(cache.isCurrent(userId, 2));
+
+        verify(userRepository, times(1)).findTokenVersionById(userId);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "tokenRevocation").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void invalidate_ReloadsRevokedVersion() {
+        assertTrue(cache.isCurrent(userId, 3));
+
+        when(userRepository.findTokenVersionById(userId)).thenReturn(Optional.of(4));
+        cache.invalidate(userId);
+
+        assertFalse(cache.isCurrent(userId, 3));
+        assertTrue(cache.isCurrent(userId, 4));
+    }
+
+    @Test
+    void revokeTokens_BumpsVersionAndDropsCachedCopies() {
+        User user = new User();
+        user.setId(userId);
+        user.setUsername("alice");
+        user.setTokenVersion(3);
+        assertTrue(cache.isCurrent(userId, 3));
+
+        cache.revokeTokens(user);
+        when(userRepository.findTokenVersionById(userId)).thenReturn(Optional.of(4));
+
+        assertEquals(4, user.getTokenVersion());
+        assertFalse(cache.isCurrent(userId, 3));
+        verify(userIdentityCache).invalidate("alice");
+    }
+
+    @Test
+    void isCurrent_RejectsTokensOfDeletedUsers() {
+        UUID deleted = UUID.randomUUID();
+        when(userRepository.findTokenVersionById(deleted)).thenReturn(Optional.empty());
+
+        assertFalse(cache.isCurrent(deleted, 0));
+    }
+}
@@ -0,0 +1,70 @@
+package com.taingy.eventmanagementsystem.security;
+
+import com.taingy.eventmanagementsystem.enums.Role;
+import com.taingy.eventmanagementsystem.model.User;
+import com.taingy.eventmanagementsystem.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserIdentityCacheTest {
+
+    private UserRepository userRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private UserIdentityCache cache;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new UserIdentityCache(userRepository, meterRegistry, 100, 60000);
+
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername("alice");
+        user.setRole(Role.USER);
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    void getByUsername_LoadsOnceAndReturnsCopies() {
+        User first = cache.getByUsername("alice").orElseThrow();
+        first.setRole(Role.ADMIN);
+        User second = cache.getByUsername("alice").orElseThrow();
+
+        assertEquals(user.getId(), second.getId());
+        assertEquals(Role.USER, second.getRole());
+        verify(userRepository, times(1)).findByUsername("alice");
+
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "userIdentity").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "userIdentity").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    void getByUsername_DoesNotCacheMissingUsers() {
+        assertTrue(cache.getByUsername("nobody").isEmpty());
+        assertTrue(cache.getByUsername("nobody").isEmpty());
+
+        verify(userRepository, times(2)).findByUsername("nobody");
+    }
+
+    @Test
+    void invalidate_ByUsernameAndById_ReloadsUser() {
+        cache.getByUsername("alice");
+        cache.invalidate("alice");
+        cache.getByUsername("alice");
+        cache.invalidate(user.getId());
+        cache.getByUsername("alice");
+
+        verify(userRepository, times(3)).findByUsername("alice");
+    }
+}
@@ -0,0 +1,91 @@
+package com.taingy.eventmanagementsystem.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taingy.eventmanagementsystem.mapper.CategoryMapper;
+import com.taingy.eventmanagementsystem.model.Category;
+import com.taingy.eventmanagementsystem.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CategoryServiceTest {
+
+    private CategoryRepository categoryRepository;
+    private CategoryService categoryService;
+    private final List<Category> stored = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        categoryRepository = mock(CategoryRepository.class);
+        when(categoryRepository.findAll()).thenAnswer(invocation -> new ArrayList<>(stored));
+        when(categoryRepository.save(any(Category.class))).thenAnswer(invocation -> {
+            Category category = invocation.getArgument(0);
+            stored.add(category);
+            return category;
+        });
+        categoryService = new CategoryService(categoryRepository, new CategoryMapper(), new ObjectMapper(),
+                mock(SummaryService.class), 60000);
+        stored.add(category(1, "Technology"));
+    }
+
+    @Test
+    void getCatalog_LoadsOnceUntilWrite() {
+        CategoryService.Catalog first = categoryService.getCatalog();
+        CategoryService.Catalog second = categoryService.getCatalog();
+
+        assertSame(first, second);
+        assertEquals("{\"categories\":[{\"id\":1,\"name\":\"Technology\",\"description\":null}]}",
+                new String(first.body(), StandardCharsets.UTF_8));
+        assertTrue(first.etag().startsWith("\"") && first.etag().endsWith("\""));
+        verify(categoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    void saveCategory_RebuildsCatalogWithNewETag() {
+        CategoryService.Catalog before = categoryService.getCatalog();
+
+        categoryService.saveCategory(category(2, "Music"));
+        CategoryService.Catalog after = categoryService.getCatalog();
+
+        assertEquals(2, after.categories().size());
+        assertNotEquals(before.etag(), after.etag());
+        assertSame(after, categoryService.getCatalog());
+        verify(categoryRepository, times(2)).findAll();
+    }
+
+    @Test
+    void deleteCategory_RebuildsCatalog() {
+        categoryService.getCatalog();
+        doAnswer(invocation -> stored.removeIf(c -> c.getId().equals(invocation.getArgument(0))))
+                .when(categoryRepository).deleteById(1);
+
+        categoryService.deleteCategory(1);
+
+        assertTrue(categoryService.getCatalog().categories().isEmpty());
+    }
+
+    @Test
+    void getCatalog_ReloadsOnceTtlExpires() {
+        categoryService = new CategoryService(categoryRepository, new CategoryMapper(), new ObjectMapper(),
+                mock(SummaryService.class), 0);
+        categoryService.getCatalog();
+        stored.add(category(2, "Music"));
+
+        assertEquals(2, categoryService.getCatalog().categories().size());
+        verify(categoryRepository, times(2)).findAll();
+    }
+
+    private Category category(int id, String name) {
+        Category category = new Category();
+        category.setId(id);
+        category.setName(name);
+        return category;
+    }
+}
@@ -0,0 +1,104 @@
+package com.taingy.eventmanagementsystem.service;
+
+import com.taingy.eventmanagementsystem.enums.CheckInResult;
+import com.taingy.eventmanagementsystem.enums.TicketStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CheckInIndexTest {
+
+    @Test
+    void admit_AdmitsValidTicketOnce() {
+        CheckInIndex index = new CheckInIndex(3);
+        UUID valid = UUID.randomUUID();
+        UUID used = UUID.randomUUID();
+        UUID invalid = UUID.randomUUID();
+        index.put(valid, TicketStatus.VALID);
+        index.put(used, TicketStatus.USED);
+        index.put(invalid, TicketStatus.INVALID);
+
+        assertEquals(CheckInResult.ADMITTED, index.admit(valid));
+        assertEquals(CheckInResult.ALREADY_CHECKED_IN, index.admit(valid));
+        assertEquals(CheckInResult.ALREADY_CHECKED_IN, index.admit(used));
+        assertEquals(CheckInResult.NOT_VALID, index.admit(invalid));
+        assertEquals(CheckInResult.NOT_FOUND, index.admit(UUID.randomUUID()));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void revoke_StopsUnusedTicketOnly() {
+        CheckInIndex index = new CheckInIndex(2);
+        UUID unused = UUID.randomUUID();
+        UUID admitted = UUID.randomUUID();
+        index.put(unused, TicketStatus.VALID);
+        index.put(admitted, TicketStatus.VALID);
+        index.admit(admitted);
+
+        assertTrue(index.revoke(unused));
+        assertTrue(index.revoke(admitted));
+        assertFalse(index.revoke(UUID.randomUUID()));
+
+        assertEquals(CheckInResult.NOT_VALID, index.admit(unused));
+        assertEquals(CheckInResult.ALREADY_CHECKED_IN, index.admit(admitted));
+    }
+
+    @Test
+    void put_RefusesNewTicketsOnceFull() {
+        CheckInIndex index = new CheckInIndex(4);
+        List<UUID> keys = new ArrayList<>();
+        UUID key;
+        while (index.put(key = UUID.randomUUID(), TicketStatus.VALID)) {
+            keys.add(key);
+        }
+
+        // Tickets that did not fit are left to the database path
+        assertEquals(keys.size(), index.size());
+        assertEquals(CheckInResult.NOT_FOUND, index.admit(key));
+        assertTrue(index.put(keys.get(0), TicketStatus.USED));
+        assertEquals(CheckInResult.ALREADY_CHECKED_IN, index.admit(keys.get(0)));
+        assertEquals(CheckInResult.ADMITTED, index.admit(keys.get(1)));
+    }
+
+    @Test
+    void admit_ConcurrentScansAdmitEachTicketExactlyOnce() throws Exception {
+        int tickets = 20_000;
+        CheckInIndex index = new CheckInIndex(tickets);
+        List<UUID> keys = new ArrayList<>();
+        for (int i = 0; i < tickets; i++) {
+            UUID key = UUID.randomUUID();
+            keys.add(key);
+            index.put(key, TicketStatus.VALID);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    int admitted = 0;
+                    for (UUID key : keys) {
+                        if (index.admit(key) == CheckInResult.ADMITTED) {
+                            admitted++;
+                        }
+                    }
+                    return admitted;
+                }));
+            }
+            int admitted = 0;
+            for (Future<Integer> future : futures) {
+                admitted += future.get();
+            }
+            assertEquals(tickets, admitted);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
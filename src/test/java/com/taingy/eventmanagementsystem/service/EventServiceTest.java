@@ -0,0 +1,97 @@
+package com.taingy.eventmanagementsystem.service;
+
+import com.taingy.eventmanagementsystem.config.DatabaseFeatures;
+import com.taingy.eventmanagementsystem.dto.EventSummary;
+import com.taingy.eventmanagementsystem.enums.EventStatus;
+import com.taingy.eventmanagementsystem.model.Event;
+import com.taingy.eventmanagementsystem.repository.CategoryRepository;
+import com.taingy.eventmanagementsystem.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EventServiceTest {
+
+    private EventRepository eventRepository;
+    private DatabaseFeatures databaseFeatures;
+    private SummaryService summaryService;
+    private EventService eventService;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        databaseFeatures = mock(DatabaseFeatures.class);
+        summaryService = mock(SummaryService.class);
+        eventService = new EventService(eventRepository, mock(CategoryRepository.class), databaseFeatures,
+                summaryService, true);
+    }
+
+    @Test
+    void searchEvents_FullText_KeepsRankOrder() {
+        ReflectionTestUtils.setField(eventService, "fullTextSearch", true);
+        EventSummary first = event();
+        EventSummary second = event();
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("createdAt").descending());
+        when(eventRepository.searchEventIds(eq("spring boot"), eq(""), eq(0), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(second.id(), first.id()), PageRequest.of(0, 10), 2));
+        when(eventRepository.findSummariesByIdIn(anyCollection())).thenReturn(List.of(first, second));
+
+        Page<EventSummary> page = eventService.searchEvents("spring boot", null, null, pageable);
+
+        assertEquals(List.of(second, first), page.getContent());
+        assertEquals(2, page.getTotalElements());
+        verify(eventRepository, never()).getEventSummaries(any(), any(), any(), any());
+    }
+
+    @Test
+    void searchEvents_FallsBackToLike_WithoutKeyword() {
+        ReflectionTestUtils.setField(eventService, "fullTextSearch", true);
+        Pageable pageable = PageRequest.of(0, 10);
+        when(eventRepository.getEventSummaries("", null, null, pageable)).thenReturn(Page.empty());
+
+        eventService.searchEvents(null, null, null, pageable);
+
+        verify(eventRepository).getEventSummaries("", null, null, pageable);
+        verify(eventRepository, never()).searchEventIds(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void detectFullTextSearch_RequiresSearchVectorColumn() {
+        when(databaseFeatures.hasPostgresColumn("events", "search_vector")).thenReturn(false);
+
+        eventService.detectFullTextSearch();
+
+        assertFalse((Boolean) ReflectionTestUtils.getField(eventService, "fullTextSearch"));
+    }
+
+    @Test
+    void saveEvent_RecordsStatusChangeForSummary() {
+        Event event = new Event();
+        event.setId(UUID.randomUUID());
+        event.setStatus(EventStatus.ACTIVE);
+        when(eventRepository.findStatusById(event.getId())).thenReturn(Optional.of(EventStatus.DRAFT));
+        when(eventRepository.save(event)).thenReturn(event);
+
+        eventService.saveEvent(event);
+
+        verify(summaryService).recordEvent(EventStatus.DRAFT, EventStatus.ACTIVE);
+    }
+
+    private EventSummary event() {
+        return new EventSummary(UUID.randomUUID(), "Spring Boot Meetup", null, null, null, null, null, null,
+                null, 0, null, null, null, null, null, null, null, null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,45 @@
+package com.taingy.eventmanagementsystem.service;
+
+import com.taingy.eventmanagementsystem.repository.RegistrationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RegisteredEventCacheTest {
+
+    private RegistrationRepository registrationRepository;
+    private RegisteredEventCache cache;
+    private final UUID userId = UUID.randomUUID();
+    private final UUID eventId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        registrationRepository = mock(RegistrationRepository.class);
+        cache = new RegisteredEventCache(registrationRepository, new SimpleMeterRegistry(), true, 100, 60000);
+        when(registrationRepository.findActiveEventIdsByUserId(userId)).thenReturn(List.of(eventId));
+    }
+
+    @Test
+    void getActiveEventIds_LoadsOncePerUser() {
+        assertEquals(Set.of(eventId), cache.getActiveEventIds(userId));
+        assertEquals(Set.of(eventId), cache.getActiveEventIds(userId));
+
+        verify(registrationRepository, times(1)).findActiveEventIdsByUserId(userId);
+    }
+
+    @Test
+    void invalidate_ReloadsUser() {
+        cache.getActiveEventIds(userId);
+        cache.invalidate(userId);
+        cache.getActiveEventIds(userId);
+
+        verify(registrationRepository, times(2)).findActiveEventIdsByUserId(userId);
+    }
+}
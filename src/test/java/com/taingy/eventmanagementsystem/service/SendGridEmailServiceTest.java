@@ -0,0 +1,138 @@
+package com.taingy.eventmanagementsystem.service;
+
+import com.sendgrid.Method;
+import com.sendgrid.Request;
+import com.sendgrid.Response;
+import com.sendgrid.SendGrid;
+import com.sendgrid.helpers.mail.Mail;
+import com.sendgrid.helpers.mail.objects.Content;
+import com.sendgrid.helpers.mail.objects.Email;
+import com.sun.net.httpserver.HttpServer;
+import com.taingy.eventmanagementsystem.config.SendGridConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs SendGridEmailService against a local stub of the SendGrid mail/send endpoint.
+ */
+class SendGridEmailServiceTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(SendGridEmailServiceTest.class);
+
+    private static final int SENDS = 200;
+
+    private HttpServer server;
+    private String host;
+    private final AtomicInteger received = new AtomicInteger();
+    private final AtomicInteger rateLimitedResponsesLeft = new AtomicInteger();
+
+    private final SendGridConfig config = new SendGridConfig();
+    private CloseableHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(8));
+        server.createContext("/v3/mail/send", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            int status = rateLimitedResponsesLeft.getAndDecrement() > 0 ? 429 : 202;
+            if (status == 202) {
+                received.incrementAndGet();
+            }
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.start();
+        host = "http://127.0.0.1:" + server.getAddress().getPort();
+        httpClient = config.sendGridHttpClient(20, 5000, 5000);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    void send_RetriesRateLimitedResponses() throws IOException {
+        rateLimitedResponsesLeft.set(2);
+        SendGridEmailService service = newService(config.sendGrid(httpClient, "test-key", host));
+
+        Response response = service.send(testMail());
+
+        assertEquals(202, response.getStatusCode());
+        assertEquals(1, received.get());
+    }
+
+    @Test
+    void send_GivesUpAfterMaxAttempts() throws IOException {
+        rateLimitedResponsesLeft.set(10);
+        SendGridEmailService service = newService(config.sendGrid(httpClient, "test-key", host));
+
+        Response response = service.send(testMail());
+
+        assertEquals(429, response.getStatusCode());
+        assertEquals(0, received.get());
+    }
+
+    @Test
+    void sharedClient_DeliversEverySendConcurrently() throws Exception {
+        // Baseline: what the service used to do, a fresh client for every message
+        long start = System.nanoTime();
+        for (int i = 0; i < SENDS; i++) {
+            try (CloseableHttpClient perSendClient = config.sendGridHttpClient(1, 5000, 5000)) {
+                config.sendGrid(perSendClient, "test-key", host).api(mailRequest());
+            }
+        }
+        double perSendRate = SENDS / ((System.nanoTime() - start) / 1e9);
+
+        received.set(0);
+        SendGridEmailService service = newService(config.sendGrid(httpClient, "test-key", host));
+        ExecutorService senders = Executors.newFixedThreadPool(16);
+        start = System.nanoTime();
+        for (int i = 0; i < SENDS; i++) {
+            senders.submit(() -> service.send(testMail()));
+        }
+        senders.shutdown();
+        senders.awaitTermination(30, TimeUnit.SECONDS);
+        double pooledRate = SENDS / ((System.nanoTime() - start) / 1e9);
+
+        logger.info("SendGrid stub throughput: {} sends/s with a client per send, {} sends/s with the pooled client",
+                Math.round(perSendRate), Math.round(pooledRate));
+        assertEquals(SENDS, received.get());
+    }
+
+    private SendGridEmailService newService(SendGrid sendGrid) {
+        SendGridEmailService service = new SendGridEmailService(sendGrid, new EmailTemplateRenderer("Test System"), 8);
+        ReflectionTestUtils.setField(service, "maxAttempts", 3);
+        ReflectionTestUtils.setField(service, "initialBackoffMs", 1L);
+        return service;
+    }
+
+    private Mail testMail() {
+        return new Mail(new Email("noreply@test.com"), "Test", new Email("user@test.com"),
+                new Content("text/plain", "Hello"));
+    }
+
+    private Request mailRequest() throws IOException {
+        Request request = new Request();
+        request.setMethod(Method.POST);
+        request.setEndpoint("mail/send");
+        request.setBody(testMail().build());
+        return request;
+    }
+}
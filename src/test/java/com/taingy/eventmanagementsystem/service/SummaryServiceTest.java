@@ -0,0 +1,108 @@
+package com.taingy.eventmanagementsystem.service;
+
+import com.taingy.eventmanagementsystem.dto.GroupCount;
+import com.taingy.eventmanagementsystem.dto.SummaryResponseDTO;
+import com.taingy.eventmanagementsystem.enums.EventStatus;
+import com.taingy.eventmanagementsystem.enums.RegistrationStatus;
+import com.taingy.eventmanagementsystem.repository.CategoryRepository;
+import com.taingy.eventmanagementsystem.repository.EventRepository;
+import com.taingy.eventmanagementsystem.repository.RegistrationRepository;
+import com.taingy.eventmanagementsystem.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SummaryServiceTest {
+
+    private EventRepository eventRepository;
+    private RegistrationRepository registrationRepository;
+    private UserRepository userRepository;
+    private SummaryService summaryService;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        registrationRepository = mock(RegistrationRepository.class);
+        userRepository = mock(UserRepository.class);
+        CategoryRepository categoryRepository = mock(CategoryRepository.class);
+        summaryService = new SummaryService(eventRepository, registrationRepository, userRepository,
+                categoryRepository, 7, 60_000);
+
+        when(eventRepository.countByStatus()).thenReturn(List.of(
+                new GroupCount<>(EventStatus.ACTIVE, 3), new GroupCount<>(EventStatus.DRAFT, 1)));
+        when(registrationRepository.countByStatus()).thenReturn(List.of(
+                new GroupCount<>(RegistrationStatus.CONFIRMED, 5)));
+        when(registrationRepository.countPerDaySince(any())).thenReturn(List.of(
+                new GroupCount<>(LocalDate.now().minusDays(2), 5)));
+        when(userRepository.count()).thenReturn(10L);
+        when(categoryRepository.count()).thenReturn(2L);
+    }
+
+    @Test
+    void getSummary_ServesCountersWithoutQueryingAgain() {
+        SummaryResponseDTO first = summaryService.getSummary();
+        SummaryResponseDTO second = summaryService.getSummary();
+
+        assertEquals(4, second.getTotalEvents());
+        assertEquals(3, second.getEventsByStatus().get(EventStatus.ACTIVE));
+        assertEquals(0, second.getEventsByStatus().get(EventStatus.CANCELLED));
+        assertEquals(5, second.getTotalRegistrations());
+        assertEquals(10, second.getTotalUsers());
+        assertEquals(2, second.getTotalCategories());
+        assertEquals(7, second.getRegistrationsPerDay().size());
+        assertEquals(5, second.getRegistrationsPerDay().get(LocalDate.now().minusDays(2)));
+        assertEquals(first.getReconciledAt(), second.getReconciledAt());
+        verify(eventRepository, times(1)).countByStatus();
+    }
+
+    @Test
+    void recordedChanges_AreAppliedToServedCounters() {
+        summaryService.getSummary();
+
+        summaryService.recordEvent(null, EventStatus.DRAFT);
+        summaryService.recordEvent(EventStatus.DRAFT, EventStatus.ACTIVE);
+        summaryService.recordEvent(EventStatus.ACTIVE, null);
+        summaryService.recordRegistration(null, RegistrationStatus.CONFIRMED);
+        summaryService.recordRegistration(RegistrationStatus.CONFIRMED, RegistrationStatus.CANCELLED);
+        summaryService.recordUsers(1);
+        summaryService.recordCategories(-1);
+
+        SummaryResponseDTO summary = summaryService.getSummary();
+        assertEquals(4, summary.getTotalEvents());
+        assertEquals(1, summary.getEventsByStatus().get(EventStatus.DRAFT));
+        assertEquals(6, summary.getTotalRegistrations());
+        assertEquals(5, summary.getRegistrationsByStatus().get(RegistrationStatus.CONFIRMED));
+        assertEquals(1, summary.getRegistrationsByStatus().get(RegistrationStatus.CANCELLED));
+        assertEquals(1, summary.getRegistrationsPerDay().get(LocalDate.now()));
+        assertEquals(11, summary.getTotalUsers());
+        assertEquals(1, summary.getTotalCategories());
+    }
+
+    @Test
+    void reconcile_ReplacesDriftedCounters() {
+        summaryService.getSummary();
+        summaryService.recordUsers(5);
+
+        summaryService.reconcile();
+
+        assertEquals(10, summaryService.getSummary().getTotalUsers());
+        verify(eventRepository, times(2)).countByStatus();
+    }
+
+    @Test
+    void getSummary_RecountsWhenOlderThanStalenessBound() {
+        summaryService = new SummaryService(eventRepository, registrationRepository, userRepository,
+                mock(CategoryRepository.class), 7, -1);
+
+        summaryService.getSummary();
+        summaryService.getSummary();
+
+        verify(eventRepository, times(2)).countByStatus();
+    }
+}
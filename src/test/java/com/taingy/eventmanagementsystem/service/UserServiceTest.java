@@ -0,0 +1,116 @@
+package com.taingy.eventmanagementsystem.service;
+
+import com.taingy.eventmanagementsystem.config.DatabaseFeatures;
+import com.taingy.eventmanagementsystem.enums.Role;
+import com.taingy.eventmanagementsystem.exception.ResourceNotFoundException;
+import com.taingy.eventmanagementsystem.model.User;
+import com.taingy.eventmanagementsystem.repository.UserRepository;
+import com.taingy.eventmanagementsystem.security.TokenRevocationCache;
+import com.taingy.eventmanagementsystem.security.UserIdentityCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private DatabaseFeatures databaseFeatures;
+
+    @Mock
+    private SummaryService summaryService;
+
+    @Mock
+    private TokenRevocationCache tokenRevocationCache;
+
+    @Mock
+    private UserIdentityCache userIdentityCache;
+
+    @InjectMocks
+    private UserService userService;
+
+    @Test
+    void deleteUser_DecrementsUserCount() {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+        userService.deleteUser(user.getId());
+
+        verify(userRepository).delete(user);
+        verify(summaryService).recordUsers(-1);
+        verify(tokenRevocationCache).invalidate(user.getId());
+    }
+
+    @Test
+    void deleteUser_ThrowsNotFound_WithoutTouchingUserCount() {
+        UUID id = UUID.randomUUID();
+        when(userRepository.findById(id)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> userService.deleteUser(id));
+
+        verify(userRepository, never()).delete(any(User.class));
+        verifyNoInteractions(summaryService);
+    }
+
+    @Test
+    void getAllUsers_Trigram_EscapesLikeWildcards() {
+        enableTrigramSearch();
+        Pageable pageable = PageRequest.of(2, 20, Sort.by("createdAt").descending());
+        when(userRepository.searchByTrigram(anyString(), anyString(), anyString(), any(Pageable.class)))
+                .thenReturn(Page.empty());
+
+        userService.getAllUsers("  Ann_100% ", Role.ADMIN, pageable);
+
+        verify(userRepository).searchByTrigram("ann_100%", "%ann\\_100\\%%", "ADMIN", PageRequest.of(2, 20));
+        verify(userRepository, never()).findBySearchAndRole(any(), any(), any());
+    }
+
+    @Test
+    void getAllUsers_FallsBackToLike_WhenTrigramUnavailable() {
+        when(databaseFeatures.hasPostgresColumn("users", "search_name")).thenReturn(false);
+        ReflectionTestUtils.setField(userService, "trigramSearchEnabled", true);
+        userService.detectTrigramSearch();
+        Pageable pageable = PageRequest.of(0, 10);
+
+        userService.getAllUsers("ann", null, pageable);
+
+        verify(userRepository).findBySearchAndRole("ann", null, pageable);
+        verify(userRepository, never()).searchByTrigram(any(), any(), any(), any());
+    }
+
+    @Test
+    void getAllUsers_ListsWithoutTrigram_WhenSearchIsEmpty() {
+        enableTrigramSearch();
+        Pageable pageable = PageRequest.of(0, 10);
+
+        userService.getAllUsers("", Role.USER, pageable);
+
+        verify(userRepository).findBySearchAndRole("", Role.USER, pageable);
+    }
+
+    private void enableTrigramSearch() {
+        when(databaseFeatures.hasPostgresColumn("users", "search_name")).thenReturn(true);
+        when(databaseFeatures.hasPostgresExtension("pg_trgm")).thenReturn(true);
+        ReflectionTestUtils.setField(userService, "trigramSearchEnabled", true);
+        userService.detectTrigramSearch();
+    }
+}
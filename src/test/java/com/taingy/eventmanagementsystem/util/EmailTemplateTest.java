@@ -0,0 +1,135 @@
+package com.taingy.eventmanagementsystem.util;
+
+import com.taingy.eventmanagementsystem.model.Event;
+import com.taingy.eventmanagementsystem.model.Registration;
+import com.taingy.eventmanagementsystem.model.User;
+import com.taingy.eventmanagementsystem.service.EmailTemplateRenderer;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailTemplateTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailTemplateTest.class);
+
+    @Test
+    void render_FoldsConstantsAndEscapesVariables() {
+        EmailTemplate template = EmailTemplate.compile(
+                "<p>{{greeting}} {{name}}</p>{{{raw}}}<footer>{{appName}}</footer>",
+                Map.of("appName", "Events & Co"), "name", "greeting", "raw");
+
+        String html = template.render("<Ann>", "Hello", "<b>bold</b>");
+
+        assertEquals("<p>Hello &lt;Ann&gt;</p><b>bold</b><footer>Events &amp; Co</footer>", html);
+    }
+
+    @Test
+    void render_TreatsNullAsEmpty() {
+        EmailTemplate template = EmailTemplate.compile("[{{value}}]", Map.of(), "value");
+
+        assertEquals("[]", template.render((String) null));
+    }
+
+    @Test
+    void compile_RejectsUnknownVariable() {
+        assertThrows(IllegalArgumentException.class,
+                () -> EmailTemplate.compile("{{missing}}", Map.of(), "value"));
+    }
+
+    @Test
+    void renderer_EscapesRegistrationNote() {
+        EmailTemplateRenderer renderer = new EmailTemplateRenderer("Test System");
+
+        String html = renderer.renderRegistrationConfirmation(user(), event(), registration("<script>x</script>"));
+
+        assertTrue(html.contains("&lt;script&gt;x&lt;/script&gt;"));
+        assertTrue(html.contains("Dear Jane,"));
+        assertTrue(html.contains("$25.50"));
+        assertTrue(html.contains("This email was sent by Test System"));
+    }
+
+    /**
+     * Stand-in for a JMH benchmark: compares the compiled template against the previous
+     * text block + {@code formatted} rendering, checking both produce the same HTML and
+     * logging throughput and bytes allocated per email.
+     */
+    @Test
+    void compiledTemplate_MatchesFormattedOutput_AndReportsCost() throws IOException {
+        String source = new ClassPathResource("email-templates/registration-cancellation.html")
+                .getContentAsString(StandardCharsets.UTF_8);
+        String formatSource = source
+                .replace("{{recipientName}}", "%s")
+                .replace("{{eventTitle}}", "%s")
+                .replace("{{eventDate}}", "%s")
+                .replace("{{appName}}", "%s");
+        EmailTemplateRenderer renderer = new EmailTemplateRenderer("Test System");
+        User user = user();
+        Event event = event();
+
+        Supplier<String> formatted = () -> formatSource.formatted(
+                user.getFirstName(),
+                event.getTitle(),
+                event.getEventDate().format(DateTimeFormatter.ofPattern("MMMM dd, yyyy")),
+                "Test System");
+        Supplier<String> compiled = () -> renderer.renderRegistrationCancellation(user, event);
+
+        assertEquals(formatted.get(), compiled.get());
+
+        measure("formatted", formatted);
+        measure("compiled", compiled);
+    }
+
+    private void measure(String label, Supplier<String> render) {
+        int iterations = 20_000;
+        for (int i = 0; i < iterations; i++) {
+            render.get();
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        int length = 0;
+        for (int i = 0; i < iterations; i++) {
+            length += render.get().length();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        assertTrue(length > 0);
+        logger.info("{} template: {} renders/s, {} bytes allocated per email",
+                label, Math.round(iterations / (elapsed / 1e9)), allocated / iterations);
+    }
+
+    private User user() {
+        User user = new User();
+        user.setUsername("jane");
+        user.setFirstName("Jane");
+        return user;
+    }
+
+    private Event event() {
+        Event event = new Event();
+        event.setTitle("Spring Meetup");
+        event.setEventDate(LocalDate.of(2026, 5, 14));
+        event.setPrice(25.5);
+        return event;
+    }
+
+    private Registration registration(String note) {
+        Registration registration = new Registration();
+        registration.setNote(note);
+        return registration;
+    }
+}